@@ -0,0 +1,64 @@
+# ai/material_weather/ml/pipeline/export_lgbm_text.py
+# 학습된 LGBMRegressor(.pkl)를 LightGBM 텍스트 덤프로 내보낸다
+# - 백엔드 in-JVM 평가기(LightGbmModel)가 이 텍스트를 읽어 트리를 배열로 컴파일
+# - 같은 모델의 booster.predict 결과 몇 행을 골든 파일로 같이 내보낸다
+#   → 백엔드 테스트(LightGbmModelTest)가 덤프 파싱 결과와 1e-9 이내로 일치하는지 확인
+# - 모델을 다시 학습하면 이 스크립트도 다시 실행할 것 (덤프와 골든 파일은 항상 같이 갱신)
+
+import os
+import sys
+
+import joblib
+import numpy as np
+
+current_dir = os.path.dirname(os.path.abspath(__file__))
+artifacts_dir = os.path.normpath(os.path.join(current_dir, "..", "artifacts"))
+backend_resources_dir = os.path.normpath(
+    os.path.join(current_dir, "..", "..", "..", "..", "backend", "src", "main", "resources", "ai")
+)
+backend_test_resources_dir = os.path.normpath(
+    os.path.join(current_dir, "..", "..", "..", "..", "backend", "src", "test", "resources", "ai")
+)
+
+GOLDEN_ROWS = 200
+
+
+def golden_rows(booster, n, seed=42):
+    """feature_infos 범위 안 균등 샘플 + 경계값/결측(NaN, 0) 행"""
+    rng = np.random.default_rng(seed)
+    lows, highs = [], []
+    for info in booster.dump_model()["feature_infos"].values():
+        lo, hi = (info.get("min_value", 0.0), info.get("max_value", 1.0))
+        lows.append(lo)
+        highs.append(hi)
+    lows, highs = np.array(lows), np.array(highs)
+
+    x = rng.uniform(lows, highs, size=(n, len(lows)))
+    x[0], x[1] = lows, highs
+    x[2, :] = 0.0
+    x[3, :] = np.nan
+    for i, f in zip(range(4, 20), rng.integers(0, len(lows), 16)):
+        x[i, f] = np.nan  # 특성 하나만 결측
+    return x
+
+
+src = sys.argv[1] if len(sys.argv) > 1 else os.path.join(artifacts_dir, "weather_material_pmv.pkl")
+dst = sys.argv[2] if len(sys.argv) > 2 else os.path.join(backend_resources_dir, "weather_material_pmv.txt")
+golden = sys.argv[3] if len(sys.argv) > 3 else os.path.join(backend_test_resources_dir, "weather_material_pmv.golden.csv")
+
+model = joblib.load(src)
+booster = model.booster_ if hasattr(model, "booster_") else model
+
+os.makedirs(os.path.dirname(dst), exist_ok=True)
+booster.save_model(dst)
+print(f"✅ LightGBM 텍스트 덤프 저장: {dst} (trees={booster.num_trees()})")
+
+# 골든 파일: feature_names..., prediction (repr 정밀도, 결측은 nan)
+x = golden_rows(booster, GOLDEN_ROWS)
+y = booster.predict(x)
+os.makedirs(os.path.dirname(golden), exist_ok=True)
+with open(golden, "w", encoding="utf-8") as f:
+    f.write(",".join(booster.feature_name() + ["prediction"]) + "\n")
+    for row, pred in zip(x, y):
+        f.write(",".join(repr(float(v)) for v in list(row) + [pred]) + "\n")
+print(f"✅ booster.predict 골든 {len(y)}행 저장: {golden}")
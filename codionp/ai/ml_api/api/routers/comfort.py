@@ -1,23 +1,62 @@
 from typing import Any, Dict
-from fastapi import APIRouter
+from fastapi import APIRouter, Request, Response
+from fastapi.responses import JSONResponse
 from pydantic import ValidationError
 
-from ..schemas.predict_schema import ComfortBatchRequest, ComfortBatchResult
-from ..services.inference_service import predict_comfort_batch  # ✅ 상대 임포트
+from ..schemas.predict_schema import ComfortBatchRequest, ComfortBatchResult, Context
+from ..services.inference_service import predict_comfort_batch, predict_comfort_columnar  # ✅ 상대 임포트
 
 router = APIRouter(prefix="/comfort", tags=["comfort"])
 
+# 컬럼형 포맷: {"context": {...}, "item_id": [..], "c_ratio": [..], "p_ratio": [..](선택)}
+#  → {"comfort_score": [..], "error": [..](오류 있을 때만)} 요청 순서 그대로
+# 백엔드는 응답 헤더 X-Comfort-Formats 에 columnar 가 있을 때만 이 포맷으로 보낸다
+COLUMNAR_MEDIA_TYPE = "application/vnd.codion.comfort-columnar+json"
+FORMATS_HEADERS = {"X-Comfort-Formats": "json, columnar"}
+
 def _parse(payload: Dict[str, Any]) -> ComfortBatchRequest:
     if hasattr(ComfortBatchRequest, "model_validate"):
         return ComfortBatchRequest.model_validate(payload)
     return ComfortBatchRequest.parse_obj(payload)
 
+def _parse_context(payload: Any) -> Context:
+    if hasattr(Context, "model_validate"):
+        return Context.model_validate(payload)
+    return Context.parse_obj(payload)
+
+def _is_columnar(request: Request) -> bool:
+    return request.headers.get("content-type", "").split(";")[0].strip().lower() == COLUMNAR_MEDIA_TYPE
+
+def _batch_columnar(payload: Dict[str, Any]) -> JSONResponse:
+    try:
+        context = _parse_context(payload.get("context"))
+        item_ids = payload.get("item_id")
+        c_ratios = payload.get("c_ratio")
+        p_ratios = payload.get("p_ratio")
+        if not isinstance(item_ids, list) or not isinstance(c_ratios, list) or len(item_ids) != len(c_ratios):
+            raise ValueError("item_id / c_ratio must be arrays of the same length")
+        if p_ratios is not None and (not isinstance(p_ratios, list) or len(p_ratios) != len(c_ratios)):
+            raise ValueError("p_ratio must match c_ratio length")
+    except (ValidationError, ValueError) as e:
+        # 포맷 오류는 422 → 백엔드가 JSON 으로 내려간다
+        return JSONResponse(status_code=422, content={"detail": str(e)}, headers=FORMATS_HEADERS)
+
+    scores, errors = predict_comfort_columnar(context, c_ratios, p_ratios)
+    content: Dict[str, Any] = {"comfort_score": scores}
+    if errors is not None:
+        content["error"] = errors
+    return JSONResponse(content=content, media_type=COLUMNAR_MEDIA_TYPE, headers=FORMATS_HEADERS)
+
 @router.get("/health")
 def health():
     return {"status": "ok", "service": "comfort"}
 
 @router.post("/batch")
-def batch(payload: Dict[str, Any]):
+def batch(payload: Dict[str, Any], request: Request, response: Response):
+    if _is_columnar(request):
+        return _batch_columnar(payload)
+
+    response.headers.update(FORMATS_HEADERS)
     try:
         req = _parse(payload)
     except ValidationError:
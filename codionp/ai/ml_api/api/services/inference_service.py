@@ -1,4 +1,4 @@
-from typing import List
+from typing import List, Optional, Tuple
 from ..schemas.predict_schema import Context, Item, Result
 
 def _clamp_0_100(x: int) -> int:
@@ -21,7 +21,7 @@ def _normalize_to_100(c: int, p: int) -> tuple[int, int]:
     p2 = 100 - c2
     return c2, p2
 
-def _score(context: Context, item: Item) -> float:
+def _base(context: Context) -> float:
     ta = float(context.Ta)
     rh = float(context.RH)
     va = float(context.Va)
@@ -32,11 +32,16 @@ def _score(context: Context, item: Item) -> float:
     base -= (rh / 100.0) * 10.0
     base -= va * 1.0
     base -= (cloud / 100.0) * 5.0
+    return base
 
-    c, p = _normalize_to_100(item.c_ratio, item.p_ratio)
+def _score_ratio(base: float, c_ratio: int, p_ratio: int) -> float:
+    c, p = _normalize_to_100(c_ratio, p_ratio)
     weighted = (base * (c / 100.0)) + (base * (p / 100.0) * 0.9)
     return round(max(0.0, min(100.0, weighted)), 3)
 
+def _score(context: Context, item: Item) -> float:
+    return _score_ratio(_base(context), item.c_ratio, item.p_ratio)
+
 def predict_comfort_batch(context: Context, items: List[Item]) -> List[Result]:
     results: List[Result] = []
 
@@ -47,4 +52,30 @@ def predict_comfort_batch(context: Context, items: List[Item]) -> List[Result]:
         except Exception as e:
             results.append(Result(item_id=getattr(it, "item_id", 0), comfort_score=None, error=str(e)))
 
-    return results
\ No newline at end of file
+    return results
+
+def predict_comfort_columnar(
+    context: Context,
+    c_ratios: List[int],
+    p_ratios: Optional[List[int]] = None,
+) -> Tuple[List[Optional[float]], Optional[List[Optional[str]]]]:
+    """
+    컬럼형 배치: 아이템별 Item 모델을 만들지 않고 비율 배열을 그대로 계산
+    - p_ratios 가 없으면 100 - c_ratio (백엔드는 보정 후 값을 보낸다)
+    - 반환: (요청 순서 점수 배열, 오류 배열 또는 None)
+    """
+    base = _base(context)
+    scores: List[Optional[float]] = []
+    errors: Optional[List[Optional[str]]] = None
+
+    for i, c in enumerate(c_ratios):
+        try:
+            p = p_ratios[i] if p_ratios is not None else 100 - int(c)
+            scores.append(_score_ratio(base, c, p))
+        except Exception as e:
+            if errors is None:
+                errors = [None] * len(c_ratios)
+            errors[i] = str(e)
+            scores.append(None)
+
+    return scores, errors
@@ -0,0 +1,49 @@
+// src/jmh/java/com/team/backend/service/ai/LocalComfortEvaluatorBenchmark.java
+package com.team.backend.service.ai;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /comfort/batch 로컬 평가 (weather_material_pmv 557 트리)
+ * - 후보 50(기본 limit) / 200(MAX_LIMIT), 면 비율은 10% 단위 (카탈로그 소재 비율 분포와 비슷)
+ * - 실행: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class LocalComfortEvaluatorBenchmark {
+
+    @Param({"50", "200"})
+    public int items;
+
+    private LocalComfortEvaluator evaluator;
+    private ComfortAiClient.BatchRequest request;
+
+    @Setup
+    public void setUp() {
+        evaluator = new LocalComfortEvaluator(new DefaultResourceLoader(),
+                LocalComfortEvaluator.MODE_LOCAL, "classpath:ai/weather_material_pmv.txt");
+
+        Random rnd = new Random(7);
+        List<ComfortAiClient.Item> list = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            int c = rnd.nextInt(11) * 10;
+            list.add(new ComfortAiClient.Item(100_000L + i, c, 100 - c));
+        }
+        request = new ComfortAiClient.BatchRequest(new ComfortAiClient.Context(18.5, 55.0, 2.1, 40.0), list);
+    }
+
+    @Benchmark
+    public ComfortAiClient.BatchResponse evaluate() {
+        return evaluator.evaluate(request);
+    }
+}
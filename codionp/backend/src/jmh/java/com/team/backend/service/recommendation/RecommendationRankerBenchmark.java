@@ -0,0 +1,71 @@
+// src/jmh/java/com/team/backend/service/recommendation/RecommendationRankerBenchmark.java
+package com.team.backend.service.recommendation;
+
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-K 선택: 기존 방식(복사 + 박싱 Double 전체 정렬 + subList) vs RecommendationRanker
+ * - 후보 풀 50(기본 limit) / 200(MAX_LIMIT), score null 5% 섞음
+ * - 실행: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RecommendationRankerBenchmark {
+
+    private static final int TOP_K = 3;
+
+    @Param({"50", "200"})
+    public int poolSize;
+
+    private List<RecommendationAiDto.Recommendation> recs;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(7);
+        recs = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            RecommendationAiDto.Recommendation r = new RecommendationAiDto.Recommendation();
+            r.clothingId = 100_000L + i;
+            r.name = "item-" + i;
+            r.score = (rnd.nextInt(20) == 0) ? null : rnd.nextDouble() * 100.0;
+            recs.add(r);
+        }
+    }
+
+    @Benchmark
+    public List<RecommendationAiDto.Recommendation> legacySortSubList() {
+        List<RecommendationAiDto.Recommendation> cleaned = new ArrayList<>();
+        for (RecommendationAiDto.Recommendation r : recs) {
+            if (r == null) continue;
+            if (r.clothingId == null) continue;
+            if (r.score != null && !Double.isFinite(r.score)) continue;
+            cleaned.add(r);
+        }
+
+        cleaned.sort((a, b) -> {
+            Double sa = a.score;
+            Double sb = b.score;
+            if (sa == null && sb == null) return 0;
+            if (sa == null) return 1;
+            if (sb == null) return -1;
+            return Double.compare(sb, sa);
+        });
+
+        return cleaned.subList(0, Math.min(TOP_K, cleaned.size()));
+    }
+
+    @Benchmark
+    public List<RecommendationAiDto.Recommendation> primitiveHeap() {
+        return RecommendationRanker.topK(recs, TOP_K);
+    }
+}
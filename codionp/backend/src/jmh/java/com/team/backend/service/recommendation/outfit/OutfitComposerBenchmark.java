@@ -0,0 +1,77 @@
+// src/jmh/java/com/team/backend/service/recommendation/outfit/OutfitComposerBenchmark.java
+package com.team.backend.service.recommendation.outfit;
+
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.domain.enums.ThicknessLevel;
+import com.team.backend.domain.enums.UsageType;
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.recommendation.scoring.LocalComfortScorer;
+import com.team.backend.service.recommendation.scoring.ScoringContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코디 조합 Top-K 벤치마크
+ * - 5,000벌 합성 옷장 (카테고리 균등 분포), 아이템 점수는 LocalComfortScorer
+ * - 실행: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class OutfitComposerBenchmark {
+
+    private static final String[] COLORS = {"black", "white", "red", "blue", "green", "navy", "yellow", "brown"};
+    private static final String[] STYLES = {"casual", "formal", "street", "sporty", "minimal"};
+
+    @Param({"5000"})
+    public int wardrobeSize;
+
+    @Param({"3", "10"})
+    public int k;
+
+    private final OutfitComposer composer = new OutfitComposer();
+    private Map<ClothingCategory, List<ScoredItem>> candidates;
+
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        LocalComfortScorer scorer = new LocalComfortScorer();
+        ScoringContext ctx = ScoringContext.of(12.0, 60, 20);
+
+        ClothingCategory[] categories = ClothingCategory.values();
+        ThicknessLevel[] thickness = ThicknessLevel.values();
+        UsageType[] usages = UsageType.values();
+
+        candidates = new EnumMap<>(ClothingCategory.class);
+        for (ClothingCategory c : categories) candidates.put(c, new ArrayList<>());
+
+        for (int i = 0; i < wardrobeSize; i++) {
+            int min = rnd.nextInt(30) - 5;
+            int cotton = rnd.nextInt(101);
+            CatalogItem it = new CatalogItem(
+                    (long) i, (long) (100_000 + i), "item-" + i,
+                    categories[i % categories.length],
+                    thickness[rnd.nextInt(thickness.length)],
+                    usages[rnd.nextInt(usages.length)],
+                    min, min + 5 + rnd.nextInt(10),
+                    cotton, 100 - cotton, 0,
+                    COLORS[rnd.nextInt(COLORS.length)],
+                    STYLES[rnd.nextInt(STYLES.length)],
+                    null,
+                    rnd.nextInt(500),
+                    (byte) 0
+            );
+            candidates.get(it.category()).add(new ScoredItem(it, scorer.score(it, ctx)));
+        }
+    }
+
+    @Benchmark
+    public List<Outfit> composeTopK() {
+        return composer.compose(candidates, k);
+    }
+}
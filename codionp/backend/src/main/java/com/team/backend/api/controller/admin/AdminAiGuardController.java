@@ -0,0 +1,47 @@
+// src/main/java/com/team/backend/api/controller/admin/AdminAiGuardController.java
+package com.team.backend.api.controller.admin;
+
+import com.team.backend.api.dto.ApiResponse;
+import com.team.backend.service.ai.AiUpstreamGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/ai-guard")
+public class AdminAiGuardController {
+
+    private final AiUpstreamGuard aiUpstreamGuard;
+
+    // GET /api/admin/ai-guard
+    @GetMapping
+    public ApiResponse<Map<String, Object>> status() {
+        return ApiResponse.success(snapshot());
+    }
+
+    // POST /api/admin/ai-guard/breaker/force-open
+    // - AI 점검/장애 시 수동 차단: reset 전까지 모든 AI 호출이 즉시 로컬 fallback
+    @PostMapping("/breaker/force-open")
+    public ApiResponse<Map<String, Object>> forceOpen() {
+        aiUpstreamGuard.forceOpen();
+        return ApiResponse.success(snapshot());
+    }
+
+    // POST /api/admin/ai-guard/breaker/reset
+    @PostMapping("/breaker/reset")
+    public ApiResponse<Map<String, Object>> reset() {
+        aiUpstreamGuard.reset();
+        return ApiResponse.success(snapshot());
+    }
+
+    private Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("breakerState", aiUpstreamGuard.breakerState().name());
+        out.put("limit", aiUpstreamGuard.limit());
+        out.put("inFlight", aiUpstreamGuard.inFlight());
+        return out;
+    }
+}
@@ -0,0 +1,56 @@
+// src/main/java/com/team/backend/api/controller/admin/AdminRecommendationReplayController.java
+package com.team.backend.api.controller.admin;
+
+import com.team.backend.api.dto.ApiResponse;
+import com.team.backend.domain.enums.recommendation.RecommendationEventType;
+import com.team.backend.service.recommendation.replay.RecommendationReplayService;
+import com.team.backend.service.recommendation.replay.ReplayQuery;
+import com.team.backend.service.recommendation.replay.ReplayReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/recommendation-replay")
+public class AdminRecommendationReplayController {
+
+    private static final int MAX_K = 10;
+    private static final int MAX_POOL_SIZE = 200;
+    private static final int MAX_WINDOW_MIN = 7 * 24 * 60;
+
+    private final RecommendationReplayService recommendationReplayService;
+
+    // POST /api/admin/recommendation-replay?from=2025-12-01&to=2025-12-31&scorers=local-comfort&k=3
+    // - 점수기 버전 비교: scorers 를 여러 개 주면 같은 이벤트/후보로 나란히 평가
+    @PostMapping
+    public ApiResponse<ReplayReport> replay(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<String> scorers,
+            @RequestParam(required = false) List<RecommendationEventType> eventTypes,
+            @RequestParam(defaultValue = "3") int k,
+            @RequestParam(defaultValue = "50") int poolSize,
+            @RequestParam(defaultValue = "60") int clickWindowMin,
+            @RequestParam(defaultValue = "Seoul") String defaultRegion
+    ) {
+        if (k < 1 || k > MAX_K) throw new IllegalArgumentException("k는 1~" + MAX_K + " 사이만 허용됩니다.");
+        if (poolSize < 1 || poolSize > MAX_POOL_SIZE) {
+            throw new IllegalArgumentException("poolSize는 1~" + MAX_POOL_SIZE + " 사이만 허용됩니다.");
+        }
+        if (clickWindowMin < 1 || clickWindowMin > MAX_WINDOW_MIN) {
+            throw new IllegalArgumentException("clickWindowMin은 1~" + MAX_WINDOW_MIN + " 사이만 허용됩니다.");
+        }
+
+        List<RecommendationEventType> types = (eventTypes == null || eventTypes.isEmpty())
+                ? List.of(RecommendationEventType.RECO_SHOWN)
+                : eventTypes;
+
+        return ApiResponse.success(recommendationReplayService.replay(new ReplayQuery(
+                from, to, types, scorers, k, poolSize, clickWindowMin, defaultRegion
+        )));
+    }
+}
@@ -2,13 +2,26 @@ package com.team.backend.api.controller.clothing;
 
 import com.team.backend.api.dto.ApiResponse;
 import com.team.backend.api.dto.clothingItem.ClothingItemResponseDto;
+import com.team.backend.api.dto.recommendation.OutfitRecommendationResponseDto;
+import com.team.backend.api.dto.recommendation.RecommendationBatchDto;
+import com.team.backend.api.dto.recommendation.RecommendationStreamDto;
 import com.team.backend.domain.enums.ClothingCategory;
 import com.team.backend.service.recommendation.ClothingRecommendationService;
+import com.team.backend.service.recommendation.RecommendationBatchQuery;
+import com.team.backend.service.recommendation.RecommendationStreamSink;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping(ClothingRecommendationController.API_PREFIX)
 @RequiredArgsConstructor
@@ -17,12 +30,17 @@ public class ClothingRecommendationController {
     public static final String API_PREFIX             = "/api/recommend";
     public static final String PATH_TODAY             = "/today";
     public static final String PATH_TODAY_BY_CATEGORY = "/today/by-category";
+    public static final String PATH_TODAY_OUTFITS     = "/today/outfits";
+    public static final String PATH_TODAY_STREAM      = "/today/stream";
+    public static final String PATH_BATCH             = "/batch";
 
     public static final String PARAM_REGION   = "region";
     public static final String PARAM_LAT      = "lat";
     public static final String PARAM_LON      = "lon";
     public static final String PARAM_LIMIT    = "limit";
     public static final String PARAM_CATEGORY = "category";
+    public static final String PARAM_K        = "k";
+    public static final String PARAM_USER_ID  = "userId";
 
     private static final double DEFAULT_LAT    = 37.5665;
     private static final double DEFAULT_LON    = 126.9780;
@@ -33,34 +51,124 @@ public class ClothingRecommendationController {
     private static final int MIN_LIMIT = 1;
     private static final int MAX_LIMIT = 200;
 
+    // k는 코디(조합) 개수
+    private static final int DEFAULT_K = 3;
+    private static final int MIN_K = 1;
+    private static final int MAX_K = 10;
+
+    // 배치 1회에 받을 수 있는 요청 수
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final ClothingRecommendationService clothingRecommendationService;
 
+    // SSE 연결 최대 유지 시간 (AI read-timeout 보다 길게)
+    @Value("${codi.recommend.stream.timeout-ms:15000}")
+    private long streamTimeoutMs;
+
     @GetMapping(PATH_TODAY)
     public ApiResponse<List<ClothingItemResponseDto>> today(
             @RequestParam(name = PARAM_REGION, defaultValue = DEFAULT_REGION) String region,
             @RequestParam(name = PARAM_LAT,    defaultValue = "" + DEFAULT_LAT) double lat,
             @RequestParam(name = PARAM_LON,    defaultValue = "" + DEFAULT_LON) double lon,
-            @RequestParam(name = PARAM_LIMIT,  defaultValue = "" + DEFAULT_LIMIT) Integer limit
+            @RequestParam(name = PARAM_LIMIT,  defaultValue = "" + DEFAULT_LIMIT) Integer limit,
+            @RequestParam(name = PARAM_USER_ID, required = false) Long userId
     ) {
         int resolved = resolveLimitOrThrow(limit);
         return ApiResponse.success(
-                clothingRecommendationService.recommendToday(region, lat, lon, resolved)
+                clothingRecommendationService.recommendToday(region, lat, lon, resolved, userId)
         );
     }
 
+    /**
+     * /today 의 SSE 버전: local(로컬 랭킹, 즉시) → refined(AI 랭킹) → final(analysis) 순으로 보낸다
+     * - 각 이벤트 data 는 ApiResponse 로 감싼다 (RecommendationStreamDto 참고)
+     */
+    @GetMapping(value = PATH_TODAY_STREAM, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter todayStream(
+            @RequestParam(name = PARAM_REGION, defaultValue = DEFAULT_REGION) String region,
+            @RequestParam(name = PARAM_LAT,    defaultValue = "" + DEFAULT_LAT) double lat,
+            @RequestParam(name = PARAM_LON,    defaultValue = "" + DEFAULT_LON) double lon,
+            @RequestParam(name = PARAM_LIMIT,  defaultValue = "" + DEFAULT_LIMIT) Integer limit,
+            @RequestParam(name = PARAM_USER_ID, required = false) Long userId
+    ) {
+        int resolved = resolveLimitOrThrow(limit);
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        clothingRecommendationService.streamToday(region, lat, lon, resolved, userId, new SseSink(emitter));
+        return emitter;
+    }
+
     @GetMapping(PATH_TODAY_BY_CATEGORY)
     public ApiResponse<List<ClothingItemResponseDto>> todayByCategory(
             @RequestParam(name = PARAM_CATEGORY) ClothingCategory category,
             @RequestParam(name = PARAM_REGION, defaultValue = DEFAULT_REGION) String region,
             @RequestParam(name = PARAM_LAT,    defaultValue = "" + DEFAULT_LAT) double lat,
             @RequestParam(name = PARAM_LON,    defaultValue = "" + DEFAULT_LON) double lon,
-            @RequestParam(name = PARAM_LIMIT,  defaultValue = "" + DEFAULT_LIMIT) Integer limit
+            @RequestParam(name = PARAM_LIMIT,  defaultValue = "" + DEFAULT_LIMIT) Integer limit,
+            @RequestParam(name = PARAM_USER_ID, required = false) Long userId
     ) {
         int resolved = resolveLimitOrThrow(limit);
         return ApiResponse.success(
-                clothingRecommendationService.recommendTodayByCategory(category, region, lat, lon, resolved)
+                clothingRecommendationService.recommendTodayByCategory(category, region, lat, lon, resolved, userId)
         );
     }
+
+    @GetMapping(PATH_TODAY_OUTFITS)
+    public ApiResponse<List<OutfitRecommendationResponseDto>> todayOutfits(
+            @RequestParam(name = PARAM_REGION, defaultValue = DEFAULT_REGION) String region,
+            @RequestParam(name = PARAM_LAT,    defaultValue = "" + DEFAULT_LAT) double lat,
+            @RequestParam(name = PARAM_LON,    defaultValue = "" + DEFAULT_LON) double lon,
+            @RequestParam(name = PARAM_LIMIT,  defaultValue = "" + DEFAULT_LIMIT) Integer limit,
+            @RequestParam(name = PARAM_K,      defaultValue = "" + DEFAULT_K) Integer k
+    ) {
+        int resolved = resolveLimitOrThrow(limit);
+        int resolvedK = resolveKOrThrow(k);
+        return ApiResponse.success(
+                clothingRecommendationService.recommendOutfitsToday(region, lat, lon, resolved, resolvedK)
+        );
+    }
+
+    @PostMapping(PATH_BATCH)
+    public ApiResponse<List<RecommendationBatchDto.Result>> batch(
+            @RequestBody @Valid RecommendationBatchDto.Request request
+    ) {
+        List<RecommendationBatchDto.Query> queries = request.getQueries();
+        if (queries == null || queries.isEmpty() || queries.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("queries는 1~" + MAX_BATCH_SIZE + "건만 허용됩니다.");
+        }
+
+        List<RecommendationBatchQuery> resolved = new ArrayList<>(queries.size());
+        for (RecommendationBatchDto.Query q : queries) {
+            if (q == null) throw new IllegalArgumentException("queries에 null 항목이 있습니다.");
+            resolved.add(new RecommendationBatchQuery(
+                    (q.getRegion() == null || q.getRegion().isBlank()) ? DEFAULT_REGION : q.getRegion(),
+                    (q.getLat() == null) ? DEFAULT_LAT : q.getLat(),
+                    (q.getLon() == null) ? DEFAULT_LON : q.getLon(),
+                    q.getCategory(),
+                    resolveLimitOrThrow(q.getLimit())
+            ));
+        }
+
+        List<List<ClothingItemResponseDto>> items = clothingRecommendationService.recommendBatch(resolved);
+
+        List<RecommendationBatchDto.Result> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            results.add(RecommendationBatchDto.Result.builder()
+                    .region(resolved.get(i).region())
+                    .category(resolved.get(i).category())
+                    .items(items.get(i))
+                    .build());
+        }
+        return ApiResponse.success(results);
+    }
+
+    private int resolveKOrThrow(Integer k) {
+        int v = (k == null ? DEFAULT_K : k);
+        if (v < MIN_K || v > MAX_K) {
+            throw new IllegalArgumentException("k는 " + MIN_K + "~" + MAX_K + " 사이만 허용됩니다.");
+        }
+        return v;
+    }
+
     private int resolveLimitOrThrow(Integer limit) {
         int v = (limit == null ? DEFAULT_LIMIT : limit);
         if (v < MIN_LIMIT || v > MAX_LIMIT) {
@@ -68,4 +176,45 @@ public class ClothingRecommendationController {
         }
         return v;
     }
-}
\ No newline at end of file
+
+    /**
+     * 서비스 단계별 결과 → SSE 이벤트 (클라이언트가 끊겨도 서비스 쪽으로 예외를 넘기지 않는다)
+     */
+    private static final class SseSink implements RecommendationStreamSink {
+
+        private final SseEmitter emitter;
+
+        SseSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void local(List<ClothingItemResponseDto> items) {
+            send(RecommendationStreamDto.EVENT_LOCAL, ApiResponse.success(items));
+        }
+
+        @Override
+        public void refined(List<ClothingItemResponseDto> items) {
+            send(RecommendationStreamDto.EVENT_REFINED, ApiResponse.success(items));
+        }
+
+        @Override
+        public void complete(RecommendationStreamDto.Final result) {
+            if (send(RecommendationStreamDto.EVENT_FINAL, ApiResponse.success(result))) {
+                emitter.complete();
+            }
+        }
+
+        private boolean send(String event, Object data) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 종료/타임아웃 → 이후 이벤트는 버린다
+                log.debug("[RECO_STREAM_SEND_FAIL] event={}, {}", event, e.getMessage());
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
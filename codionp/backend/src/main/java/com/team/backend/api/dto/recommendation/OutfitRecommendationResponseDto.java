@@ -0,0 +1,19 @@
+// src/main/java/com/team/backend/api/dto/recommendation/OutfitRecommendationResponseDto.java
+package com.team.backend.api.dto.recommendation;
+
+import com.team.backend.api.dto.clothingItem.ClothingItemResponseDto;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 코디 1벌 추천 결과
+ * - items: TOP, BOTTOM(또는 ONE_PIECE), OUTER?, ACCESSORY? 순서
+ */
+@Getter
+@Builder
+public class OutfitRecommendationResponseDto {
+
+    private final double score;
+    private final List<ClothingItemResponseDto> items;
+}
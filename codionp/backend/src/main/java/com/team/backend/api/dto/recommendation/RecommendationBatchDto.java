@@ -0,0 +1,56 @@
+// src/main/java/com/team/backend/api/dto/recommendation/RecommendationBatchDto.java
+package com.team.backend.api.dto.recommendation;
+
+import com.team.backend.api.dto.clothingItem.ClothingItemResponseDto;
+import com.team.backend.domain.enums.ClothingCategory;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+public class RecommendationBatchDto {
+
+    private RecommendationBatchDto() {}
+
+    // ==============================
+    // Request: POST /api/recommend/batch
+    // ==============================
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Request {
+
+        @NotEmpty
+        private List<Query> queries;
+    }
+
+    /**
+     * /api/recommend/today(/by-category) 1건과 같은 파라미터 (null 이면 단건 API 기본값)
+     * - category null 이면 전체 카테고리
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Query {
+
+        private String region;
+        private Double lat;
+        private Double lon;
+        private ClothingCategory category;
+        private Integer limit;
+    }
+
+    // ==============================
+    // Response: 요청 queries 와 같은 순서
+    // ==============================
+    @Getter
+    @Builder
+    public static class Result {
+
+        private final String region;
+        private final ClothingCategory category;
+        private final List<ClothingItemResponseDto> items;
+    }
+}
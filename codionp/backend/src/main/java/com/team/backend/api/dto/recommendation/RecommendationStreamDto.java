@@ -0,0 +1,42 @@
+// src/main/java/com/team/backend/api/dto/recommendation/RecommendationStreamDto.java
+package com.team.backend.api.dto.recommendation;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * GET /api/recommend/today/stream (SSE) 이벤트 데이터
+ * - local   : 로컬 점수기 랭킹 (즉시)          → List<ClothingItemResponseDto>
+ * - refined : AI 랭킹 (AI 응답 도착 시)         → List<ClothingItemResponseDto>
+ * - final   : AI analysis + 결과 출처, 스트림 종료 → Final
+ */
+public class RecommendationStreamDto {
+
+    private RecommendationStreamDto() {}
+
+    public static final String EVENT_LOCAL = "local";
+    public static final String EVENT_REFINED = "refined";
+    public static final String EVENT_FINAL = "final";
+
+    /**
+     * source: ai / cache / materialized / fallback (fallback 이면 refined 없이 final 만)
+     */
+    @Getter
+    @Builder
+    public static class Final {
+
+        private final String source;
+        private final String message;
+        private final List<Analysis> analyses;
+    }
+
+    @Getter
+    @Builder
+    public static class Analysis {
+
+        private final Long clothingId;
+        private final Double score;
+        private final String analysis;
+    }
+}
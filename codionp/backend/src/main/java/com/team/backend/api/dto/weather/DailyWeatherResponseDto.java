@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Getter
 @Builder
@@ -25,6 +26,8 @@ public class DailyWeatherResponseDto {
     private final int humidity;
     private final double windSpeed;
 
+    private final LocalDateTime fetchedAt;     // ✅ 예보 수집 시각(KST) - 추천 캐시 TTL 기준
+
     public static DailyWeatherResponseDto from(DailyWeather entity) {
         return DailyWeatherResponseDto.builder()
                 .region(entity.getRegion())
@@ -38,6 +41,7 @@ public class DailyWeatherResponseDto {
                 .precipitationProbability(entity.getPrecipitationProbability())
                 .humidity(entity.getHumidity())
                 .windSpeed(entity.getWindSpeed())
+                .fetchedAt(entity.getFetchedAt())
                 .build();
     }
 }
\ No newline at end of file
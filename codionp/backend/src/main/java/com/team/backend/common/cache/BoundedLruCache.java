@@ -0,0 +1,116 @@
+// src/main/java/com/team/backend/common/cache/BoundedLruCache.java
+package com.team.backend.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최대 엔트리 수 제한 LRU + 엔트리별 만료 시각
+ * - 접근 순서 LinkedHashMap 기반이라 get 도 구조 변경 → 전부 synchronized
+ * - hit / miss / eviction(용량 초과) / expiration(만료·무효화) 카운터 제공
+ */
+public class BoundedLruCache<K, V> {
+
+    private final int maxEntries;
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public BoundedLruCache(int maxEntries) {
+        if (maxEntries <= 0) throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다.");
+        this.maxEntries = maxEntries;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedLruCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (map) {
+            Entry<V> e = map.get(key);
+            if (e == null) {
+                misses.increment();
+                return null;
+            }
+            if (e.expiresAtMs() <= now) {
+                map.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return e.value();
+        }
+    }
+
+    public void put(K key, V value, long expiresAtMs) {
+        if (key == null || value == null) return;
+        if (expiresAtMs <= System.currentTimeMillis()) return;
+        synchronized (map) {
+            map.put(key, new Entry<>(value, expiresAtMs));
+        }
+    }
+
+    /**
+     * 값이 더 이상 유효하지 않을 때(예: 새 예보 반영) 호출 → expiration 으로 집계
+     */
+    public void invalidate(K key) {
+        synchronized (map) {
+            if (map.remove(key) != null) expirations.increment();
+        }
+    }
+
+    public void clear() {
+        synchronized (map) {
+            map.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    public int maxEntries() { return maxEntries; }
+    public long hits() { return hits.sum(); }
+    public long misses() { return misses.sum(); }
+    public long evictions() { return evictions.sum(); }
+    public long expirations() { return expirations.sum(); }
+
+    /**
+     * actuator(/actuator/prometheus, /actuator/metrics)로 노출
+     * - codion.cache.{hits,misses,evictions,expirations} (counter), codion.cache.size (gauge)
+     * - tag cache=name 으로 캐시 구분
+     */
+    public BoundedLruCache<K, V> bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("codion.cache.hits", this, BoundedLruCache::hits)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("codion.cache.misses", this, BoundedLruCache::misses)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("codion.cache.evictions", this, BoundedLruCache::evictions)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("codion.cache.expirations", this, BoundedLruCache::expirations)
+                .tag("cache", name).register(registry);
+        Gauge.builder("codion.cache.size", this, BoundedLruCache::size)
+                .tag("cache", name).register(registry);
+        return this;
+    }
+
+    private record Entry<V>(V value, long expiresAtMs) {}
+}
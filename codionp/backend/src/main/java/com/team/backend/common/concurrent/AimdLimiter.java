@@ -0,0 +1,77 @@
+// src/main/java/com/team/backend/common/concurrent/AimdLimiter.java
+package com.team.backend.common.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 기반 적응형 동시 실행 상한 (AIMD)
+ * - 정상 응답이 latencyThreshold 안에 오고 상한의 절반 이상을 쓰고 있으면 상한 +1
+ * - 실패(dropped)거나 latencyThreshold 를 넘기면 상한 × backoffRatio
+ * - tryAcquire 는 CAS 한 번 → 상한이 찼으면 기다리지 않고 바로 false (호출부에서 fallback)
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdMs) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limit 범위가 올바르지 않습니다. (1 <= min <= max)");
+        }
+        if (backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("backoffRatio는 0과 1 사이여야 합니다.");
+        }
+        if (latencyThresholdMs <= 0) throw new IllegalArgumentException("latencyThresholdMs는 1 이상이어야 합니다.");
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int cur = inFlight.get();
+            if (cur >= limit) return false;
+            if (inFlight.compareAndSet(cur, cur + 1)) return true;
+        }
+    }
+
+    /**
+     * @param rttNanos 호출 소요 시간 (dropped 면 무시)
+     * @param dropped  업스트림 실패(타임아웃/5xx 등)
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int cur = inFlight.getAndDecrement();
+
+        synchronized (this) {
+            if (dropped || rttNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+            } else if (cur * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    /**
+     * 결과와 무관한 반납 (요청 검증 실패, 로컬 풀 포화 등) → 상한 조정 없음
+     */
+    public void releaseIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
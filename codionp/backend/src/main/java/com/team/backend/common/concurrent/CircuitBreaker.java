@@ -0,0 +1,152 @@
+// src/main/java/com/team/backend/common/concurrent/CircuitBreaker.java
+package com.team.backend.common.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출 수 기반 서킷 브레이커
+ * - CLOSED: 최근 windowSize 개 결과 중 실패율이 failureRate 이상이면 (최소 minCalls 개 이후) OPEN
+ * - OPEN: openMs 동안 전부 거절 → 이후 HALF_OPEN 에서 halfOpenCalls 개만 시험 호출
+ *   시험이 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - FORCED_OPEN: 운영자가 강제로 연 상태 (reset 전까지 전부 거절)
+ * - 상태 전이는 synchronized (경합이 없으면 수십 ns)
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED(0), HALF_OPEN(1), OPEN(2), FORCED_OPEN(3);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+
+        // 지표용 (gauge)
+        public int code() {
+            return code;
+        }
+    }
+
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // 최근 결과 링버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowPos;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private int trialsInFlight;
+    private int trialSuccesses;
+
+    public CircuitBreaker(int windowSize, int minCalls, double failureRate, long openMs, int halfOpenCalls) {
+        if (windowSize < 1 || minCalls < 1 || minCalls > windowSize) {
+            throw new IllegalArgumentException("windowSize/minCalls 값이 올바르지 않습니다. (1 <= minCalls <= windowSize)");
+        }
+        if (failureRate <= 0.0 || failureRate > 1.0) throw new IllegalArgumentException("failureRate는 0 초과 1 이하여야 합니다.");
+        if (openMs <= 0) throw new IllegalArgumentException("openMs는 1 이상이어야 합니다.");
+        if (halfOpenCalls < 1) throw new IllegalArgumentException("halfOpenCalls는 1 이상이어야 합니다.");
+
+        this.windowSize = windowSize;
+        this.minCalls = minCalls;
+        this.failureRate = failureRate;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+        this.halfOpenCalls = halfOpenCalls;
+        this.window = new boolean[windowSize];
+    }
+
+    /**
+     * @return false 면 호출하지 말 것. true 면 반드시 onSuccess / onFailure / onIgnored 중 하나로 끝낼 것
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openUntilNanos < 0) return false;
+                state = State.HALF_OPEN;
+                trialsInFlight = 0;
+                trialSuccesses = 0;
+                // fall through
+            case HALF_OPEN:
+                if (trialsInFlight + trialSuccesses >= halfOpenCalls) return false;
+                trialsInFlight++;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            trialsInFlight = Math.max(0, trialsInFlight - 1);
+            if (++trialSuccesses >= halfOpenCalls) close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minCalls && windowFailures >= failureRate * windowCount) open();
+        }
+    }
+
+    /**
+     * 업스트림 상태와 무관하게 끝난 호출 (검증 실패, 동시 실행 상한 초과 등) → 시험 슬롯만 반납
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) trialsInFlight = Math.max(0, trialsInFlight - 1);
+    }
+
+    public synchronized void forceOpen() {
+        state = State.FORCED_OPEN;
+    }
+
+    /**
+     * 강제 열림 포함 어떤 상태든 CLOSED 로 (윈도우 초기화)
+     */
+    public synchronized void reset() {
+        close();
+    }
+
+    public synchronized State state() {
+        // OPEN 시간이 지났으면 다음 호출이 HALF_OPEN 으로 바꾸지만, 조회 시에도 그렇게 보이도록
+        if (state == State.OPEN && System.nanoTime() - openUntilNanos >= 0) return State.HALF_OPEN;
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == windowSize) {
+            if (window[windowPos]) windowFailures--;
+        } else {
+            windowCount++;
+        }
+        window[windowPos] = failure;
+        if (failure) windowFailures++;
+        windowPos = (windowPos + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntilNanos = System.nanoTime() + openNanos;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowPos = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        trialsInFlight = 0;
+        trialSuccesses = 0;
+    }
+}
@@ -0,0 +1,80 @@
+// src/main/java/com/team/backend/common/concurrent/SingleFlight.java
+package com.team.backend.common.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 진행 중인 비동기 호출을 하나로 합친다 (single-flight)
+ * - 키마다 진행 중 future 하나만 유지: 처음 온 호출자(leader)만 실제 호출, 이후 호출자(follower)는 같은 future 를 기다린다
+ * - future 가 끝나면(성공/실패 모두) 엔트리 제거 → 결과를 기억하지 않는다 (결과 재사용은 캐시 몫)
+ * - 지표: codion.singleflight.{leaders,joined} / codion.singleflight.in_flight {name}
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+
+    /**
+     * @param call leader 일 때만 호출 (예: supplyAsync). 여기서 던진 예외(RejectedExecutionException 등)는
+     *             leader 에게 그대로 전파되고, 그 사이 합류한 follower 는 같은 예외로 끝난 future 를 받는다
+     */
+    public Flight<V> join(K key, Supplier<CompletableFuture<V>> call) {
+        if (key == null) {
+            leaders.increment();
+            return new Flight<>(call.get(), true);
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            joined.increment();
+            return new Flight<>(existing, false);
+        }
+
+        // 맵에 넣은 뒤에 제거 콜백을 걸어야 "등록 전에 끝나서 안 지워지는" 엔트리가 생기지 않는다
+        mine.whenComplete((v, ex) -> inFlight.remove(key, mine));
+        leaders.increment();
+
+        CompletableFuture<V> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        }
+
+        started.whenComplete((v, ex) -> {
+            if (ex != null) mine.completeExceptionally(ex);
+            else mine.complete(v);
+        });
+        return new Flight<>(mine, true);
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    public SingleFlight<K, V> bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("codion.singleflight.leaders", leaders, LongAdder::sum)
+                .tag("name", name).register(registry);
+        FunctionCounter.builder("codion.singleflight.joined", joined, LongAdder::sum)
+                .tag("name", name).register(registry);
+        Gauge.builder("codion.singleflight.in_flight", this, SingleFlight::inFlightCount)
+                .tag("name", name).register(registry);
+        return this;
+    }
+
+    /**
+     * @param leader true 면 이 호출자가 실제 호출을 시작했다 (late 결과 처리 등은 leader 만)
+     */
+    public record Flight<V>(CompletableFuture<V> future, boolean leader) {}
+}
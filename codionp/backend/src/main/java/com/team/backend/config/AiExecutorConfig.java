@@ -0,0 +1,73 @@
+package com.team.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AiExecutorConfig {
+
+    /**
+     * AI 호출 전용 bounded 풀
+     * - 요청 스레드는 ai.recommend-budget-ms 만큼만 기다리고, 나머지는 이 풀에서 끝까지 수행
+     * - 비동기 경로(AiAsyncTransport)는 응답 대기 중엔 스레드를 잡지 않고, 응답 파싱/후처리만 이 풀에서
+     * - 큐까지 차면 즉시 RejectedExecutionException → 호출부에서 로컬 fallback
+     */
+    @Bean(name = "aiCallExecutor")
+    public ThreadPoolTaskExecutor aiCallExecutor(
+            @Value("${ai.executor.core-size:8}") int coreSize,
+            @Value("${ai.executor.max-size:32}") int maxSize,
+            @Value("${ai.executor.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("ai-call-");
+        ex.setCorePoolSize(coreSize);
+        ex.setMaxPoolSize(maxSize);
+        ex.setQueueCapacity(queueCapacity);
+        ex.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * 예보 갱신 후 지역별 사전 추천 계산용 풀
+     * - 요청 경로와 분리 (AI 호출이 길어도 사용자 요청 스레드/aiCallExecutor 를 점유하지 않음)
+     */
+    @Bean(name = "recommendPrecomputeExecutor")
+    public ThreadPoolTaskExecutor recommendPrecomputeExecutor(
+            @Value("${codi.recommend.materialize.threads:2}") int threads,
+            @Value("${codi.recommend.materialize.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("reco-precompute-");
+        ex.setCorePoolSize(threads);
+        ex.setMaxPoolSize(threads);
+        ex.setQueueCapacity(queueCapacity);
+        ex.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * 섀도 점수기 실험 전용 풀 (작게)
+     * - 요청 스레드는 제출만 하고 기다리지 않는다
+     * - 큐가 차면 즉시 거절 → 섀도 작업만 버린다 (부하 시 shedding)
+     */
+    @Bean(name = "recommendShadowExecutor")
+    public ThreadPoolTaskExecutor recommendShadowExecutor(
+            @Value("${codi.recommend.shadow.threads:1}") int threads,
+            @Value("${codi.recommend.shadow.queue-capacity:32}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("reco-shadow-");
+        ex.setCorePoolSize(threads);
+        ex.setMaxPoolSize(threads);
+        ex.setQueueCapacity(queueCapacity);
+        ex.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        ex.initialize();
+        return ex;
+    }
+}
@@ -1,29 +1,149 @@
 package com.team.backend.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
 @Configuration
 public class HttpClientConfig {
 
+    /**
+     * FastAPI 동기 호출용 커넥션 풀 (keep-alive 재사용)
+     * - uvicorn keep-alive 기본 5초 → 유휴 연결은 그보다 먼저 정리 (ai.http.idle-evict-ms)
+     * - 풀에서 연결을 못 받으면 ai.http.acquire-timeout-ms 후 실패 (읽기 타임아웃과 별개) → AI_TIMEOUT 으로 fallback
+     * - 지표: httpcomponents.httpclient.pool.* {httpclient=ai}
+     */
+    @Bean(name = "aiPooledHttpClient")
+    public CloseableHttpClient aiPooledHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${ai.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${ai.read-timeout-ms:7000}") int readTimeoutMs,
+            @Value("${ai.http.max-total:64}") int maxTotal,
+            @Value("${ai.http.max-per-route:32}") int maxPerRoute,
+            @Value("${ai.http.acquire-timeout-ms:500}") int acquireTimeoutMs,
+            @Value("${ai.http.idle-evict-ms:4000}") long idleEvictMs,
+            @Value("${ai.http.ttl-sec:300}") long ttlSec
+    ) {
+        return pooledClient(meterRegistry, "ai", connectTimeoutMs, readTimeoutMs,
+                maxTotal, maxPerRoute, acquireTimeoutMs, idleEvictMs, ttlSec);
+    }
+
+    /**
+     * OpenWeather 호출용 커넥션 풀 (AI 풀과 분리 → 한쪽이 느려져도 다른 쪽 연결을 잡지 않음)
+     * - 지표: httpcomponents.httpclient.pool.* {httpclient=openweather}
+     */
+    @Bean(name = "weatherPooledHttpClient")
+    public CloseableHttpClient weatherPooledHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${weather.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${weather.http.read-timeout-ms:5000}") int readTimeoutMs,
+            @Value("${weather.http.max-total:8}") int maxTotal,
+            @Value("${weather.http.max-per-route:4}") int maxPerRoute,
+            @Value("${weather.http.acquire-timeout-ms:1000}") int acquireTimeoutMs,
+            @Value("${weather.http.idle-evict-ms:30000}") long idleEvictMs,
+            @Value("${weather.http.ttl-sec:300}") long ttlSec
+    ) {
+        return pooledClient(meterRegistry, "openweather", connectTimeoutMs, readTimeoutMs,
+                maxTotal, maxPerRoute, acquireTimeoutMs, idleEvictMs, ttlSec);
+    }
+
     @Bean
     @Qualifier("aiRestTemplate")
     public RestTemplate aiRestTemplate(
             RestTemplateBuilder builder,
-            @Value("${ai.base-url:http://localhost:8000}") String baseUrl,
-            @Value("${ai.connect-timeout-ms:2000}") int connectTimeoutMs,
-            @Value("${ai.read-timeout-ms:7000}") int readTimeoutMs
+            @Qualifier("aiPooledHttpClient") CloseableHttpClient aiPooledHttpClient,
+            @Value("${ai.base-url:http://localhost:8000}") String baseUrl
     ) {
+        // 타임아웃은 풀 클라이언트 쪽 설정을 그대로 쓴다
         return builder
                 .rootUri(baseUrl) // 핵심: ComfortAiClient는 path만 넘긴다
-                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
-                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(aiPooledHttpClient))
+                .build();
+    }
+
+    @Bean
+    @Qualifier("weatherRestTemplate")
+    public RestTemplate weatherRestTemplate(
+            RestTemplateBuilder builder,
+            @Qualifier("weatherPooledHttpClient") CloseableHttpClient weatherPooledHttpClient
+    ) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(weatherPooledHttpClient))
+                .build();
+    }
+
+    /**
+     * 비동기 AI 호출용 (AiAsyncTransport)
+     * - 응답 대기 중 스레드를 잡지 않는 sendAsync 전용, 요청별 타임아웃은 ai.read-timeout-ms
+     * - FastAPI(uvicorn) 평문 HTTP → h2c 업그레이드 시도 없이 HTTP/1.1 고정
+     */
+    @Bean
+    @Qualifier("aiHttpClient")
+    public HttpClient aiHttpClient(@Value("${ai.connect-timeout-ms:2000}") int connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    private static CloseableHttpClient pooledClient(
+            MeterRegistry meterRegistry,
+            String name,
+            int connectTimeoutMs,
+            int readTimeoutMs,
+            int maxTotal,
+            int maxPerRoute,
+            int acquireTimeoutMs,
+            long idleEvictMs,
+            long ttlSec
+    ) {
+        if (maxTotal <= 0 || maxPerRoute <= 0) {
+            throw new IllegalArgumentException("[" + name + "] http.max-total / max-per-route는 1 이상이어야 합니다.");
+        }
+        if (maxPerRoute > maxTotal) {
+            throw new IllegalArgumentException("[" + name + "] http.max-per-route는 max-total 이하여야 합니다.");
+        }
+
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(ttlSec))
+                        // 서버가 먼저 끊은 keep-alive 연결을 재사용 전에 확인
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(1))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(pool, name, Tags.empty()).bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(pool)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.team.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 지역 × 날짜 × 카테고리별 사전 계산 추천 (비개인화)
+ * - daily_weather upsert 직후 백그라운드에서 채워진다
+ * - category: ClothingCategory 이름 또는 전체면 "ALL"
+ * - payload: AI Top-K 결과 JSON 배열 [{clothingId, name, score, analysis}]
+ */
+@Entity
+@Table(
+        name = "daily_recommendation",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_daily_recommendation_region_date_category",
+                        columnNames = {"region", "reco_date", "category"})
+        },
+        indexes = {
+                @Index(name = "idx_daily_recommendation_date", columnList = "reco_date")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailyRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정규화(소문자/trim)된 region
+    @Column(nullable = false, length = 30)
+    private String region;
+
+    @Column(name = "reco_date", nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false, length = 20)
+    private String category;
+
+    // 계산에 쓴 예보의 daily_weather.fetched_at
+    @Column(name = "weather_fetched_at", nullable = false)
+    private LocalDateTime weatherFetchedAt;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+
+    public void updateFrom(LocalDateTime weatherFetchedAt, String payload, LocalDateTime computedAt) {
+        this.weatherFetchedAt = weatherFetchedAt;
+        this.payload = payload;
+        this.computedAt = computedAt;
+    }
+}
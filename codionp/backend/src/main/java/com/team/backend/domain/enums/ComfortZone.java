@@ -110,30 +110,42 @@ public enum ComfortZone {
      * - 옷 개별 온도 범위 (suitableMinTemp / suitableMaxTemp)와의 구간 겹침 체크
      */
     public boolean matches(ClothingItem item) {
+        return matches(
+                item.getCategory(),
+                item.getThicknessLevel(),
+                item.getSuitableMinTemp(),
+                item.getSuitableMaxTemp()
+        );
+    }
+
+    /**
+     * 엔티티 없이 속성값만으로 판정 (인메모리 카탈로그/후보군 계산용)
+     */
+    public boolean matches(ClothingCategory category,
+                           ThicknessLevel thicknessLevel,
+                           Integer itemMin,
+                           Integer itemMax) {
 
         // 1) 두께 룰
-        if (!allowedThickness.contains(item.getThicknessLevel())) {
+        if (!allowedThickness.contains(thicknessLevel)) {
             return false;
         }
 
         // 2) 아우터 룰
-        if (!outerAllowed && item.getCategory() == OUTER) {
+        if (!outerAllowed && category == OUTER) {
             return false;
         }
 
         // 3) 매우 추운 구간에서 아우터도 아니고 얇은 옷은 막기
         if (this == VERY_COLD &&
-                item.getCategory() != OUTER &&
-                item.getThicknessLevel() == THIN) {
+                category != OUTER &&
+                thicknessLevel == THIN) {
             return false;
         }
 
         // 4) 옷 고유 온도 범위와의 겹침 체크 (옵셔널)
         //    - 옷에 suitableMinTemp / suitableMaxTemp 가 설정되어 있다면,
         //      ComfortZone 온도 구간과 전혀 겹치지 않으면 제외.
-        Integer itemMin = item.getSuitableMinTemp();
-        Integer itemMax = item.getSuitableMaxTemp();
-
         if (itemMin != null && this.maxTemp < itemMin) {
             // 존의 최대 온도가 옷의 최소 적정 온도보다 낮으면 겹치지 않음
             return false;
@@ -1,6 +1,9 @@
 // src/main/java/com/team/backend/domain/enums/recommendation/RecommendationEventType.java
 package com.team.backend.domain.enums.recommendation;
 
+import java.util.Arrays;
+import java.util.List;
+
 public enum RecommendationEventType {
     CHECKLIST_SUBMITTED,
     RECO_GENERATED,
@@ -8,6 +11,21 @@ public enum RecommendationEventType {
     RECO_ITEM_SELECTED,
     RECO_FEEDBACK_SUBMITTED,
     RECO_COMPLETED,
-    RECO_ERROR
+    RECO_ERROR,
+
+    // 시스템 이벤트 (사용자 요청 아님 → 퍼널/리플레이 집계 제외)
+    SHADOW_COMPARE,
+    RECO_PRECOMPUTED,
+    RECO_AI_LATE; // 예산 초과 후 도착한 AI 결과 (요청은 이미 로컬 랭킹으로 응답)
+
+    public boolean isSystem() {
+        return this == SHADOW_COMPARE || this == RECO_PRECOMPUTED || this == RECO_AI_LATE;
+    }
 
-}
\ No newline at end of file
+    /**
+     * 사용자 요청에서 나온 이벤트 타입 (리플레이에서 타입을 지정하지 않았을 때)
+     */
+    public static List<RecommendationEventType> userFacing() {
+        return Arrays.stream(values()).filter(t -> !t.isSystem()).toList();
+    }
+}
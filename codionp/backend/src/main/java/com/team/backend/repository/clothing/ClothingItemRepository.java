@@ -25,6 +25,10 @@ public interface ClothingItemRepository extends JpaRepository<ClothingItem, Long
         return findAllByIdIn(ids);
     }
 
+    // (clothing_item.id, season) 전체 - 카탈로그 스냅샷 적재 시 seasons 를 아이템별 LAZY 로딩 없이 한 번에
+    @Query("select c.id, s from ClothingItem c join c.seasons s")
+    List<Object[]> findAllSeasonPairs();
+
     List<ClothingItem> findAllByOrderBySelectedCountDesc(Pageable pageable);
 
     List<ClothingItem> findAllByCategoryOrderBySelectedCountDesc(ClothingCategory category, Pageable pageable);
@@ -2,9 +2,13 @@ package com.team.backend.repository.log;
 
 import com.team.backend.api.dto.recommendation.ItemClickLogRequestDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
 
 @Repository
 @RequiredArgsConstructor
@@ -53,4 +57,57 @@ public class ItemClickLogJdbcRepository {
 
         jdbc.update(sql, params);
     }
-}
\ No newline at end of file
+
+    /**
+     * since 이후 회원(user_id not null) 클릭을 시간순으로 스트리밍
+     * - fetchSize 단위 서버 커서로 읽어 전체 결과를 메모리에 올리지 않는다
+     *   (PostgreSQL 커서는 autocommit off 에서만 동작 → readOnly 트랜잭션)
+     * - created_at 범위 조건이라 해당 월 파티션만 스캔
+     */
+    @Transactional(readOnly = true)
+    public void streamUserClicksSince(OffsetDateTime since, int fetchSize, UserClickHandler handler) {
+        streamUserClicks(since, null, fetchSize, handler);
+    }
+
+    /**
+     * [from, to) 회원 클릭 스트리밍 (오프라인 리플레이 정답셋)
+     */
+    @Transactional(readOnly = true)
+    public void streamUserClicksBetween(OffsetDateTime from, OffsetDateTime to, int fetchSize, UserClickHandler handler) {
+        streamUserClicks(from, to, fetchSize, handler);
+    }
+
+    private void streamUserClicks(OffsetDateTime from, OffsetDateTime to, int fetchSize, UserClickHandler handler) {
+        String sql = """
+                SELECT user_id, clothing_item_id, created_at
+                FROM public.item_click_log
+                WHERE created_at >= :from
+                """ + (to == null ? "" : " AND created_at < :to ") + """
+                  AND user_id IS NOT NULL
+                ORDER BY created_at
+                """;
+
+        MapSqlParameterSource p = new MapSqlParameterSource("from", from);
+        if (to != null) p.addValue("to", to);
+
+        JdbcTemplate cursor = new JdbcTemplate(jdbc.getJdbcTemplate().getDataSource());
+        cursor.setFetchSize(fetchSize);
+
+        new NamedParameterJdbcTemplate(cursor).query(
+                sql,
+                p,
+                rs -> {
+                    handler.accept(
+                            rs.getLong("user_id"),
+                            rs.getLong("clothing_item_id"),
+                            rs.getObject("created_at", OffsetDateTime.class).toInstant().toEpochMilli()
+                    );
+                }
+        );
+    }
+
+    @FunctionalInterface
+    public interface UserClickHandler {
+        void accept(long userId, long clothingItemId, long clickedAtMs);
+    }
+}
@@ -5,9 +5,11 @@ import com.team.backend.api.dto.recommendation.RecommendationEventLogRequestDto;
 import com.team.backend.api.dto.recommendation.RecommendationEventLogResponseDto;
 import com.team.backend.domain.enums.recommendation.RecommendationEventType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -136,6 +138,61 @@ public class RecommendationEventLogJdbcRepository {
         return jdbc.query(sql, p, this::mapRow);
     }
 
+    // ===========================================
+    // 4) STREAM - 기간 + 타입 (오프라인 리플레이)
+    // ===========================================
+
+    /**
+     * [from, to) 이벤트를 시간순으로 스트리밍 (forward-only 커서, fetchSize 단위)
+     * - 결과 전체를 메모리에 올리지 않는다 → 수백만 건도 상수 메모리
+     * - PostgreSQL 커서는 autocommit off 에서만 동작 → readOnly 트랜잭션
+     */
+    @Transactional(readOnly = true)
+    public void streamRange(
+            OffsetDateTime from,
+            OffsetDateTime to,
+            List<RecommendationEventType> eventTypes,
+            int fetchSize,
+            EventRowHandler handler
+    ) {
+        boolean hasTypes = eventTypes != null && !eventTypes.isEmpty();
+
+        String sql = """
+            SELECT
+                user_id,
+                created_at,
+                CASE WHEN payload IS NULL THEN NULL ELSE payload::text END AS payload_json
+            FROM public.recommendation_event_log
+            WHERE created_at >= :from
+              AND created_at <  :to
+            """ + (hasTypes ? " AND event_type IN (:eventTypes) " : "") + """
+            ORDER BY created_at
+            """;
+
+        MapSqlParameterSource p = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        if (hasTypes) {
+            p.addValue("eventTypes", eventTypes.stream().map(RecommendationEventType::name).collect(Collectors.toList()));
+        }
+
+        JdbcTemplate cursor = new JdbcTemplate(jdbc.getJdbcTemplate().getDataSource());
+        cursor.setFetchSize(fetchSize);
+
+        new NamedParameterJdbcTemplate(cursor).query(sql, p, rs -> {
+            handler.accept(
+                    (Long) rs.getObject("user_id"),
+                    rs.getObject("created_at", OffsetDateTime.class).toInstant().toEpochMilli(),
+                    rs.getString("payload_json")
+            );
+        });
+    }
+
+    @FunctionalInterface
+    public interface EventRowHandler {
+        void accept(Long userId, long createdAtMs, String payloadJson);
+    }
+
     // -----------------------
     // 내부 헬퍼
     // -----------------------
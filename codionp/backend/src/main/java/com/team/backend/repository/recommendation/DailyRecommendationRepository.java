@@ -0,0 +1,16 @@
+package com.team.backend.repository.recommendation;
+
+import com.team.backend.domain.DailyRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyRecommendationRepository extends JpaRepository<DailyRecommendation, Long> {
+
+    // ✅ upsert 대상 조회 (region 1개, 기간)
+    List<DailyRecommendation> findAllByRegionAndDateBetween(String region, LocalDate start, LocalDate end);
+
+    // ✅ 기동 시 인메모리 적재 (오늘 이후)
+    List<DailyRecommendation> findAllByDateGreaterThanEqual(LocalDate date);
+}
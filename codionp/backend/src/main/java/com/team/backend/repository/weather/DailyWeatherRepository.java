@@ -19,6 +19,9 @@ public interface DailyWeatherRepository extends JpaRepository<DailyWeather, Long
             LocalDate end
     );
 
+    // ✅ 전 지역 기간 조회 (오프라인 리플레이 날씨 복원)
+    List<DailyWeather> findAllByDateBetween(LocalDate start, LocalDate end);
+
     // ✅ 5일치 데이터 채워졌는지 확인용(성능 좋음)
     long countByRegionAndDateBetween(String region, LocalDate start, LocalDate end);
 
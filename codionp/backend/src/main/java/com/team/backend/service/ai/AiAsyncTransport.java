@@ -0,0 +1,126 @@
+// src/main/java/com/team/backend/service/ai/AiAsyncTransport.java
+package com.team.backend.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.backend.config.AiUpstreamException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * FastAPI 비동기 POST (java.net.http.HttpClient.sendAsync)
+ * - 응답을 기다리는 동안 어떤 스레드도 점유하지 않는다 (요청 스레드/aiCallExecutor 모두 즉시 반환)
+ * - 응답 파싱과 이후 콜백은 aiCallExecutor 에서 (풀이 차면 RejectedExecutionException 으로 실패한 future)
+ * - 오류 코드는 RestTemplate 경로와 같다: AI_HTTP_{status} / AI_TIMEOUT / AI_BAD_RESPONSE / AI_CLIENT_ERROR
+ */
+@Component
+public class AiAsyncTransport {
+
+    private static final String JSON = "application/json";
+
+    private final HttpClient aiHttpClient;
+    private final ObjectMapper objectMapper;
+    private final Executor aiCallExecutor;
+    private final String baseUrl;
+    private final Duration readTimeout;
+
+    public AiAsyncTransport(
+            @Qualifier("aiHttpClient") HttpClient aiHttpClient,
+            ObjectMapper objectMapper,
+            Executor aiCallExecutor,
+            @Value("${ai.base-url:http://localhost:8000}") String baseUrl,
+            @Value("${ai.read-timeout-ms:7000}") int readTimeoutMs
+    ) {
+        this.aiHttpClient = aiHttpClient;
+        this.objectMapper = objectMapper;
+        this.aiCallExecutor = aiCallExecutor;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+    }
+
+    /**
+     * @param path ai.base-url 뒤에 붙일 경로 ("/" 로 시작)
+     * @return 실패 시 AiUpstreamException 으로 끝나는 future
+     */
+    public <T> CompletableFuture<T> postJson(String path, Object body, Class<T> responseType) {
+        return postJson(path, body, JSON, responseType, null);
+    }
+
+    /**
+     * @param mediaType   Content-Type / Accept (JSON 계열 벤더 타입)
+     * @param onHeaders   2xx 응답 헤더 확인용 (포맷 협상 등, nullable) - 파싱 전에 aiCallExecutor 에서 호출
+     */
+    public <T> CompletableFuture<T> postJson(
+            String path,
+            Object body,
+            String mediaType,
+            Class<T> responseType,
+            Consumer<HttpHeaders> onHeaders
+    ) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(readTimeout)
+                    .header("Content-Type", mediaType)
+                    .header("Accept", mediaType)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(
+                    new AiUpstreamException("AI_CLIENT_ERROR", 502, "AI client error: " + e.getMessage()));
+        }
+
+        return aiHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handleAsync((res, ex) -> {
+                    if (ex != null) throw toUpstream(ex);
+                    if (onHeaders != null && res.statusCode() >= 200 && res.statusCode() < 300) {
+                        onHeaders.accept(res.headers());
+                    }
+                    return read(res, responseType);
+                }, aiCallExecutor);
+    }
+
+    private <T> T read(HttpResponse<byte[]> res, Class<T> responseType) {
+        int status = res.statusCode();
+        byte[] bytes = res.body();
+
+        if (status < 200 || status >= 300) {
+            String body = (bytes == null) ? "" : new String(bytes, StandardCharsets.UTF_8);
+            throw new AiUpstreamException("AI_HTTP_" + status, 502, "AI error: status=" + status + ", body=" + body);
+        }
+        if (bytes == null || bytes.length == 0) {
+            throw new AiUpstreamException("AI_BAD_RESPONSE", 502, "AI returned empty body");
+        }
+
+        try {
+            T parsed = objectMapper.readValue(bytes, responseType);
+            if (parsed == null) throw new AiUpstreamException("AI_BAD_RESPONSE", 502, "AI returned empty body");
+            return parsed;
+        } catch (IOException e) {
+            throw new AiUpstreamException("AI_CLIENT_ERROR", 502, "AI client error: " + e.getMessage());
+        }
+    }
+
+    private static AiUpstreamException toUpstream(Throwable ex) {
+        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+        if (cause instanceof AiUpstreamException e) return e;
+        if (cause instanceof HttpTimeoutException || cause instanceof IOException) {
+            return new AiUpstreamException("AI_TIMEOUT", 504, "AI timeout/connection error: " + cause.getMessage());
+        }
+        return new AiUpstreamException("AI_CLIENT_ERROR", 502, "AI client error: " + cause.getMessage());
+    }
+}
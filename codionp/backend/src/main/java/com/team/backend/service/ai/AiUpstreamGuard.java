@@ -0,0 +1,169 @@
+// src/main/java/com/team/backend/service/ai/AiUpstreamGuard.java
+package com.team.backend.service.ai;
+
+import com.team.backend.common.concurrent.AimdLimiter;
+import com.team.backend.common.concurrent.CircuitBreaker;
+import com.team.backend.config.AiUpstreamException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * FastAPI 앞단 보호 (RecommendationAiClient / ComfortAiClient 동기·비동기 호출 공통)
+ * - 서킷 브레이커 → 적응형 동시 실행 상한(AIMD) 순으로 통과해야 실제 호출
+ * - 거절되면 즉시 AiUpstreamException(AI_SHED, 503) → 호출부는 기존 실패 경로(로컬 fallback)로
+ * - 업스트림 실패로 치는 것: AI_TIMEOUT / AI_HTTP_5xx / AI_BAD_RESPONSE / AI_CLIENT_ERROR
+ *   (AI_APP_FAIL, 4xx 등 응답은 온 경우는 성공으로, 검증 실패/로컬 풀 포화는 무시)
+ * - 지표: codion.ai.guard.{limit,in_flight,breaker.state} / codion.ai.guard.rejected {reason=breaker|limit}
+ */
+@Slf4j
+@Component
+public class AiUpstreamGuard {
+
+    public static final String SHED_CODE = "AI_SHED";
+
+    private final boolean enabled;
+    private final AimdLimiter limiter;
+    private final CircuitBreaker breaker;
+
+    private final LongAdder rejectedByBreaker = new LongAdder();
+    private final LongAdder rejectedByLimit = new LongAdder();
+
+    public AiUpstreamGuard(
+            MeterRegistry meterRegistry,
+            @Value("${ai.guard.enabled:true}") boolean enabled,
+            @Value("${ai.guard.limit.initial:16}") int initialLimit,
+            @Value("${ai.guard.limit.min:2}") int minLimit,
+            @Value("${ai.guard.limit.max:64}") int maxLimit,
+            @Value("${ai.guard.limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${ai.guard.limit.latency-threshold-ms:1500}") long latencyThresholdMs,
+            @Value("${ai.guard.breaker.window-size:50}") int windowSize,
+            @Value("${ai.guard.breaker.min-calls:10}") int minCalls,
+            @Value("${ai.guard.breaker.failure-rate:0.5}") double failureRate,
+            @Value("${ai.guard.breaker.open-ms:10000}") long openMs,
+            @Value("${ai.guard.breaker.half-open-calls:3}") int halfOpenCalls
+    ) {
+        this.enabled = enabled;
+        this.limiter = new AimdLimiter(initialLimit, minLimit, maxLimit, backoffRatio, latencyThresholdMs);
+        this.breaker = new CircuitBreaker(windowSize, minCalls, failureRate, openMs, halfOpenCalls);
+
+        Gauge.builder("codion.ai.guard.limit", limiter, AimdLimiter::limit).register(meterRegistry);
+        Gauge.builder("codion.ai.guard.in_flight", limiter, AimdLimiter::inFlight).register(meterRegistry);
+        Gauge.builder("codion.ai.guard.breaker.state", breaker, b -> b.state().code())
+                .description("0=closed, 1=half_open, 2=open, 3=forced_open")
+                .register(meterRegistry);
+        FunctionCounter.builder("codion.ai.guard.rejected", rejectedByBreaker, LongAdder::sum)
+                .tag("reason", "breaker").register(meterRegistry);
+        FunctionCounter.builder("codion.ai.guard.rejected", rejectedByLimit, LongAdder::sum)
+                .tag("reason", "limit").register(meterRegistry);
+    }
+
+    /**
+     * 동기 호출 (호출 스레드에서 실행)
+     */
+    public <T> T call(Supplier<T> call) {
+        if (!enabled) return call.get();
+
+        acquire();
+        long startedAt = System.nanoTime();
+        try {
+            T out = call.get();
+            release(startedAt, null);
+            return out;
+        } catch (RuntimeException e) {
+            release(startedAt, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 호출: 거절되면 AI_SHED 로 끝난 future, 통과하면 future 가 끝날 때 반납
+     */
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> call) {
+        if (!enabled) return call.get();
+
+        try {
+            acquire();
+        } catch (AiUpstreamException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException e) {
+            release(startedAt, e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return started.whenComplete((v, ex) -> release(startedAt, ex));
+    }
+
+    public CircuitBreaker.State breakerState() {
+        return breaker.state();
+    }
+
+    public int limit() {
+        return limiter.limit();
+    }
+
+    public int inFlight() {
+        return limiter.inFlight();
+    }
+
+    public void forceOpen() {
+        breaker.forceOpen();
+        log.warn("[AI_GUARD] breaker forced open");
+    }
+
+    public void reset() {
+        breaker.reset();
+        log.warn("[AI_GUARD] breaker reset (closed)");
+    }
+
+    private void acquire() {
+        if (!breaker.tryAcquire()) {
+            rejectedByBreaker.increment();
+            throw new AiUpstreamException(SHED_CODE, 503, "AI circuit open");
+        }
+        if (!limiter.tryAcquire()) {
+            breaker.onIgnored();
+            rejectedByLimit.increment();
+            throw new AiUpstreamException(SHED_CODE, 503, "AI concurrency limit reached (limit=" + limiter.limit() + ")");
+        }
+    }
+
+    private void release(long startedAt, Throwable ex) {
+        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+
+        if (cause == null || isAnswered(cause)) {
+            limiter.release(System.nanoTime() - startedAt, false);
+            breaker.onSuccess();
+        } else if (isUpstreamFailure(cause)) {
+            limiter.release(System.nanoTime() - startedAt, true);
+            breaker.onFailure();
+        } else {
+            limiter.releaseIgnored();
+            breaker.onIgnored();
+        }
+    }
+
+    // 업스트림이 응답은 한 경우 (앱 레벨 실패/스키마 오류/4xx)
+    private static boolean isAnswered(Throwable e) {
+        if (!(e instanceof AiUpstreamException u) || u.getCode() == null) return false;
+        String code = u.getCode();
+        return code.equals("AI_APP_FAIL") || code.equals("AI_BAD_SCHEMA") || code.startsWith("AI_HTTP_4");
+    }
+
+    private static boolean isUpstreamFailure(Throwable e) {
+        return e instanceof AiUpstreamException u && u.getCode() != null && !SHED_CODE.equals(u.getCode());
+    }
+}
@@ -9,19 +9,84 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 public class ComfortAiClient {
 
     private final RestTemplate aiRestTemplate;
+    private final LocalComfortEvaluator localComfortEvaluator;
+    private final ComfortScoreCache comfortScoreCache;
+    private final ComfortGridStore comfortGridStore;
+    private final ComfortBatchCoalescer comfortBatchCoalescer;
+    private final AiAsyncTransport aiAsyncTransport;
+    private final AiUpstreamGuard aiUpstreamGuard;
+    private final ComfortWireFormat comfortWireFormat;
 
     @Value("${ai.comfort-batch-path:/comfort/batch}")
     private String comfortBatchPath;
 
-    public ComfortAiClient(@Qualifier("aiRestTemplate") RestTemplate aiRestTemplate) {
+    public ComfortAiClient(
+            @Qualifier("aiRestTemplate") RestTemplate aiRestTemplate,
+            LocalComfortEvaluator localComfortEvaluator,
+            ComfortScoreCache comfortScoreCache,
+            ComfortGridStore comfortGridStore,
+            ComfortBatchCoalescer comfortBatchCoalescer,
+            AiAsyncTransport aiAsyncTransport,
+            AiUpstreamGuard aiUpstreamGuard,
+            ComfortWireFormat comfortWireFormat
+    ) {
         this.aiRestTemplate = aiRestTemplate;
+        this.localComfortEvaluator = localComfortEvaluator;
+        this.comfortScoreCache = comfortScoreCache;
+        this.comfortGridStore = comfortGridStore;
+        this.comfortBatchCoalescer = comfortBatchCoalescer;
+        this.aiAsyncTransport = aiAsyncTransport;
+        this.aiUpstreamGuard = aiUpstreamGuard;
+        this.comfortWireFormat = comfortWireFormat;
+    }
+
+    /**
+     * 예보 격자 우선 조회 (ComfortGridWarmer 가 미리 계산한 region/date 격자)
+     * - 격자 칸이 있으면 배열 읽기로 끝, 없는 아이템만 callBatch(request.context) 로
+     * - 격자 점수는 그날 예보 컨텍스트 기준이므로 request.context 와 조금 다를 수 있다
+     * - 아직 요청 경로에 comfort 소비자가 없어 호출부는 없다 (격자는 ComfortGridWarmer 가 채우기만 함)
+     *   아이템별 comfort 조회를 붙일 때는 callBatch(request) 대신 이 오버로드를 쓸 것
+     */
+    public BatchResponse callBatch(String region, LocalDate date, BatchRequest request) {
+        validateRequest(request);
+
+        List<Result> out = new ArrayList<>(request.items.size());
+        List<Item> misses = new ArrayList<>();
+        for (Item it : request.items) {
+            Result r = new Result();
+            r.itemId = it.itemId;
+            r.comfortScore = comfortGridStore.score(region, date, it.cRatio, it.pRatio);
+            if (r.comfortScore == null) misses.add(it);
+            out.add(r);
+        }
+
+        if (!misses.isEmpty()) {
+            // miss 결과는 요청 순서 그대로 (item_id 는 호출자 값이라 중복될 수 있어 위치로만 맞춘다)
+            List<Result> missResults = callBatch(new BatchRequest(request.context, misses)).results;
+            boolean aligned = missResults != null && missResults.size() == misses.size();
+            int j = 0;
+            for (Result r : out) {
+                if (r.comfortScore != null) continue;
+                Result m = aligned ? missResults.get(j++) : null;
+                r.comfortScore = (m == null) ? null : m.comfortScore;
+                r.error = (m == null) ? "NO_RESULT" : m.error;
+            }
+        }
+
+        BatchResponse res = new BatchResponse();
+        res.results = out;
+        return res;
     }
 
     public BatchResponse callBatch(BatchRequest request) {
@@ -30,24 +95,178 @@ public class ComfortAiClient {
         // 어떤 값이 와도 0~100 / 합 100으로 보정
         BatchRequest sanitized = sanitizeRequest(request);
 
+        if (!comfortScoreCache.enabled()) return evaluate(sanitized);
+        return callBatchCached(sanitized, r -> CompletableFuture.completedFuture(evaluate(r))).join();
+    }
+
+    /**
+     * callBatch 의 비동기 버전 (응답 대기 중 스레드 점유 없음)
+     * - 검증/보정/점수 캐시는 같고, miss 만 비동기 POST (마이크로 배칭은 대기 스레드가 필요해 거치지 않음)
+     * - 요청 검증 실패는 즉시 IllegalArgumentException, 업스트림 실패는 같은 AiUpstreamException 으로 끝나는 future
+     */
+    public CompletableFuture<BatchResponse> callBatchAsync(BatchRequest request) {
+        validateRequest(request);
+        BatchRequest sanitized = sanitizeRequest(request);
+
+        if (!comfortScoreCache.enabled()) return evaluateAsync(sanitized);
+        return callBatchCached(sanitized, this::evaluateAsync);
+    }
+
+    /**
+     * 점수 캐시를 거친 호출
+     * - 컨텍스트를 캐시 격자로 스냅 → 아이템별 (컨텍스트, cRatio) 조회
+     * - miss 는 cRatio 당 대표 아이템 1건만 AI 로 보내고, 결과는 원래 아이템 순서로 합친다
+     * - 대표 아이템의 item_id 는 cRatio (호출자 item_id 는 중복될 수 있으므로 쓰지 않는다)
+     */
+    private CompletableFuture<BatchResponse> callBatchCached(
+            BatchRequest sanitized,
+            Function<BatchRequest, CompletableFuture<BatchResponse>> fetch
+    ) {
+        Context ctx = comfortScoreCache.quantize(sanitized.context);
+        List<Item> items = sanitized.items;
+
+        Double[] scores = new Double[items.size()];
+        Map<Integer, Item> missByRatio = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            Item it = items.get(i);
+            scores[i] = comfortScoreCache.get(ctx, it.cRatio);
+            if (scores[i] == null) {
+                missByRatio.computeIfAbsent(it.cRatio, c -> new Item((long) c, c, 100 - c));
+            }
+        }
+
+        if (missByRatio.isEmpty()) {
+            return CompletableFuture.completedFuture(mergeCached(items, scores, Map.of()));
+        }
+        return fetch.apply(new BatchRequest(ctx, new ArrayList<>(missByRatio.values())))
+                .thenApply(upstream -> {
+                    // 대표 아이템 결과(item_id = cRatio) → cRatio 별 결과
+                    Map<Integer, Result> missResults = new HashMap<>();
+                    for (Result r : upstream.results) {
+                        if (r == null || r.itemId == null) continue;
+                        int cRatio = r.itemId.intValue();
+                        if (r.itemId != cRatio || !missByRatio.containsKey(cRatio)) continue;
+                        if (missResults.putIfAbsent(cRatio, r) == null && r.error == null) {
+                            comfortScoreCache.put(ctx, cRatio, r.comfortScore);
+                        }
+                    }
+                    return mergeCached(items, scores, missResults);
+                });
+    }
+
+    // 캐시 hit 점수 + miss 결과(cRatio 별) → 원래 아이템 순서
+    private BatchResponse mergeCached(List<Item> items, Double[] scores, Map<Integer, Result> missResults) {
+        List<Result> out = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Item it = items.get(i);
+            Result r = new Result();
+            r.itemId = it.itemId;
+            if (scores[i] != null) {
+                r.comfortScore = scores[i];
+            } else {
+                Result m = missResults.get(it.cRatio);
+                r.comfortScore = (m == null) ? null : m.comfortScore;
+                r.error = (m == null) ? "NO_RESULT" : m.error;
+            }
+            out.add(r);
+        }
+
+        BatchResponse res = new BatchResponse();
+        res.results = out;
+        return res;
+    }
+
+    private BatchResponse evaluate(BatchRequest sanitized) {
+        // ai.comfort-mode=local: 같은 모델을 JVM 안에서 평가 (HTTP 없음)
+        if (localComfortEvaluator.enabled()) {
+            return localComfortEvaluator.evaluate(sanitized);
+        }
+
+        // 같은 컨텍스트의 동시 호출은 짧은 창 안에서 POST 1회로 합친다
+        return comfortBatchCoalescer.submit(sanitized, this::post);
+    }
+
+    private CompletableFuture<BatchResponse> evaluateAsync(BatchRequest sanitized) {
+        if (localComfortEvaluator.enabled()) {
+            return CompletableFuture.completedFuture(localComfortEvaluator.evaluate(sanitized));
+        }
+        return aiUpstreamGuard.callAsync(() -> postAsync(sanitized));
+    }
+
+    private CompletableFuture<BatchResponse> postAsync(BatchRequest sanitized) {
+        String path = normalizePath(comfortBatchPath);
+
+        if (comfortWireFormat.useColumnar()) {
+            return aiAsyncTransport
+                    .postJson(path, ComfortWireFormat.encode(sanitized), ComfortWireFormat.COLUMNAR_MEDIA_TYPE,
+                            ComfortWireFormat.ColumnarResponse.class, null)
+                    .thenApply(res -> ComfortWireFormat.decode(sanitized, res))
+                    .exceptionallyCompose(ex -> {
+                        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                        if (!ComfortWireFormat.isFormatRejected(cause)) return CompletableFuture.failedFuture(cause);
+                        comfortWireFormat.downgrade();
+                        return postJsonAsync(path, sanitized);
+                    });
+        }
+        return postJsonAsync(path, sanitized);
+    }
+
+    private CompletableFuture<BatchResponse> postJsonAsync(String path, BatchRequest sanitized) {
+        return aiAsyncTransport
+                .postJson(path, sanitized, MediaType.APPLICATION_JSON_VALUE, BatchResponse.class,
+                        h -> comfortWireFormat.observe(h.firstValue(ComfortWireFormat.FORMATS_HEADER).orElse(null)))
+                .thenApply(body -> {
+                    if (body.results == null) body.results = List.of();
+                    return body;
+                });
+    }
+
+    // 합친 요청 1건 = 보호 장치 통과 1회
+    private BatchResponse post(BatchRequest sanitized) {
+        return aiUpstreamGuard.call(() -> exchange(sanitized));
+    }
+
+    private BatchResponse exchange(BatchRequest sanitized) {
+        if (comfortWireFormat.useColumnar()) {
+            try {
+                ResponseEntity<ComfortWireFormat.ColumnarResponse> res = send(
+                        ComfortWireFormat.encode(sanitized),
+                        MediaType.parseMediaType(ComfortWireFormat.COLUMNAR_MEDIA_TYPE),
+                        ComfortWireFormat.ColumnarResponse.class
+                );
+                return ComfortWireFormat.decode(sanitized, res.getBody());
+            } catch (AiUpstreamException e) {
+                if (!ComfortWireFormat.isFormatRejected(e)) throw e;
+                comfortWireFormat.downgrade();
+            }
+        }
+
+        ResponseEntity<BatchResponse> res = send(sanitized, MediaType.APPLICATION_JSON, BatchResponse.class);
+        comfortWireFormat.observe(res.getHeaders().getFirst(ComfortWireFormat.FORMATS_HEADER));
+
+        BatchResponse body = res.getBody();
+        if (body.results == null) body.results = List.of();
+        return body;
+    }
+
+    private <B, R> ResponseEntity<R> send(B payload, MediaType mediaType, Class<R> responseType) {
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+        headers.setContentType(mediaType);
+        // 컬럼형을 모르는 서버의 JSON 응답도 받는다
+        headers.setAccept(MediaType.APPLICATION_JSON.equals(mediaType)
+                ? List.of(mediaType)
+                : List.of(mediaType, MediaType.APPLICATION_JSON));
 
-        HttpEntity<BatchRequest> entity = new HttpEntity<>(sanitized, headers);
+        HttpEntity<B> entity = new HttpEntity<>(payload, headers);
         String path = normalizePath(comfortBatchPath);
 
         try {
-            ResponseEntity<BatchResponse> res =
-                    aiRestTemplate.exchange(path, HttpMethod.POST, entity, BatchResponse.class);
+            ResponseEntity<R> res = aiRestTemplate.exchange(path, HttpMethod.POST, entity, responseType);
 
             if (!res.getStatusCode().is2xxSuccessful() || res.getBody() == null) {
                 throw new AiUpstreamException("AI_BAD_RESPONSE", 502, "AI returned empty body");
             }
-
-            BatchResponse body = res.getBody();
-            if (body.results == null) body.results = List.of();
-            return body;
+            return res;
 
         } catch (HttpStatusCodeException e) {
             throw new AiUpstreamException(
@@ -95,7 +314,7 @@ public class ComfortAiClient {
         return (v == null || !Double.isFinite(v)) ? 0.0 : v;
     }
 
-    private int[] normalizeTo100(Integer cRatio, Integer pRatio) {
+    static int[] normalizeTo100(Integer cRatio, Integer pRatio) {
         int c = clamp01_100(cRatio);
         int p = clamp01_100(pRatio);
         int sum = c + p;
@@ -109,7 +328,7 @@ public class ComfortAiClient {
         return new int[]{c2, p2};
     }
 
-    private int clamp01_100(Integer v) {
+    private static int clamp01_100(Integer v) {
         int x = (v == null ? 0 : v);
         if (x < 0) return 0;
         return Math.min(x, 100);
@@ -0,0 +1,216 @@
+// src/main/java/com/team/backend/service/ai/ComfortBatchCoalescer.java
+package com.team.backend.service.ai;
+
+import com.team.backend.config.AiUpstreamException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * /comfort/batch 마이크로 배칭 (같은 보정 컨텍스트의 동시 호출 → POST 1회)
+ * - 컨텍스트별로 열린 배치에 먼저 들어온 호출자(leader)가 window-ms 동안(또는 max-items 가 찰 때까지) 기다린 뒤
+ *   모인 아이템을 한 번에 보내고, 결과를 호출자별 구간으로 나눠 돌려준다 (별도 스레드 없음)
+ * - 나머지 호출자는 자기 구간 future 만 기다린다. 업스트림 예외는 모든 호출자에게 그대로 전파
+ * - 결과 매핑은 순서로만 (호출자끼리 item_id 가 겹칠 수 있다). 결과 수가 다르면 모든 호출자를 AI_BAD_SCHEMA 로 실패
+ * - 지표: codion.comfort.coalesce.{batches,callers,items}
+ */
+@Component
+public class ComfortBatchCoalescer {
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxItems;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<ContextKey, Batch> open = new HashMap<>(); // lock 안에서만
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder callers = new LongAdder();
+    private final LongAdder items = new LongAdder();
+
+    public ComfortBatchCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${ai.comfort-coalesce.enabled:true}") boolean enabled,
+            @Value("${ai.comfort-coalesce.window-ms:2}") long windowMs,
+            @Value("${ai.comfort-coalesce.max-items:256}") int maxItems
+    ) {
+        if (windowMs < 0) throw new IllegalArgumentException("ai.comfort-coalesce.window-ms는 0 이상이어야 합니다.");
+        if (maxItems <= 0) throw new IllegalArgumentException("ai.comfort-coalesce.max-items는 1 이상이어야 합니다.");
+        this.enabled = enabled && windowMs > 0;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxItems = maxItems;
+
+        FunctionCounter.builder("codion.comfort.coalesce.batches", batches, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("codion.comfort.coalesce.callers", callers, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("codion.comfort.coalesce.items", items, LongAdder::sum).register(meterRegistry);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * @param request 보정이 끝난 요청 (같은 컨텍스트끼리만 합친다)
+     * @param sender  합친 요청을 실제로 보내는 함수 (leader 스레드에서 실행)
+     */
+    public ComfortAiClient.BatchResponse submit(
+            ComfortAiClient.BatchRequest request,
+            Function<ComfortAiClient.BatchRequest, ComfortAiClient.BatchResponse> sender
+    ) {
+        if (!enabled) return sender.apply(request);
+
+        ContextKey key = ContextKey.of(request.context);
+        Batch batch;
+        Part part;
+        boolean leader = false;
+
+        lock.lock();
+        try {
+            batch = open.get(key);
+            if (batch == null) {
+                batch = new Batch(request.context, lock.newCondition());
+                open.put(key, batch);
+                leader = true;
+            }
+            part = batch.add(request.items);
+            if (batch.items.size() >= maxItems) close(key, batch);
+        } finally {
+            lock.unlock();
+        }
+        callers.increment();
+
+        if (leader) {
+            awaitWindow(key, batch);
+            flush(batch, sender);
+        }
+
+        try {
+            return part.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = (e.getCause() == null) ? e : e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    // leader: 창이 끝나거나 배치가 찰 때까지 대기 후 닫는다
+    private void awaitWindow(ContextKey key, Batch batch) {
+        lock.lock();
+        try {
+            long remaining = windowNanos;
+            while (!batch.closed && remaining > 0) {
+                try {
+                    remaining = batch.full.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (!batch.closed) close(key, batch);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 안에서만 호출
+    private void close(ContextKey key, Batch batch) {
+        batch.closed = true;
+        open.remove(key, batch);
+        batch.full.signalAll();
+    }
+
+    private void flush(Batch batch, Function<ComfortAiClient.BatchRequest, ComfortAiClient.BatchResponse> sender) {
+        batches.increment();
+        items.add(batch.items.size());
+
+        ComfortAiClient.BatchResponse res;
+        try {
+            res = sender.apply(new ComfortAiClient.BatchRequest(batch.context, batch.items));
+        } catch (RuntimeException e) {
+            for (Part p : batch.parts) p.future.completeExceptionally(e);
+            return;
+        }
+
+        List<ComfortAiClient.Result> results = (res == null || res.results == null) ? List.of() : res.results;
+        if (results.size() != batch.items.size()) {
+            // 어느 결과가 누구 것인지 알 수 없다 → 각 호출자가 자기 fallback 으로
+            AiUpstreamException e = new AiUpstreamException("AI_BAD_SCHEMA", 502,
+                    "AI comfort batch result count mismatch (sent=" + batch.items.size() + ", got=" + results.size() + ")");
+            for (Part p : batch.parts) p.future.completeExceptionally(e);
+            return;
+        }
+
+        for (Part p : batch.parts) {
+            List<ComfortAiClient.Result> slice = new ArrayList<>(p.count);
+            for (int i = p.offset; i < p.offset + p.count; i++) {
+                ComfortAiClient.Result r = results.get(i);
+                if (r == null) {
+                    r = new ComfortAiClient.Result();
+                    r.error = "NO_RESULT";
+                }
+                // 응답 item_id 대신 이 호출자가 보낸 item_id 로
+                r.itemId = batch.items.get(i).itemId;
+                slice.add(r);
+            }
+            ComfortAiClient.BatchResponse out = new ComfortAiClient.BatchResponse();
+            out.results = slice;
+            p.future.complete(out);
+        }
+    }
+
+    private static final class Batch {
+        final ComfortAiClient.Context context;
+        final Condition full;
+        final List<ComfortAiClient.Item> items = new ArrayList<>();
+        final List<Part> parts = new ArrayList<>();
+        boolean closed;
+
+        Batch(ComfortAiClient.Context context, Condition full) {
+            this.context = context;
+            this.full = full;
+        }
+
+        Part add(List<ComfortAiClient.Item> in) {
+            Part p = new Part(items.size(), in.size());
+            items.addAll(in);
+            parts.add(p);
+            return p;
+        }
+    }
+
+    private static final class Part {
+        final int offset;
+        final int count;
+        final CompletableFuture<ComfortAiClient.BatchResponse> future = new CompletableFuture<>();
+
+        Part(int offset, int count) {
+            this.offset = offset;
+            this.count = count;
+        }
+    }
+
+    // 보정 후 컨텍스트는 double 4개 → 비트 그대로 비교
+    private record ContextKey(long ta, long rh, long va, long cloud) {
+        static ContextKey of(ComfortAiClient.Context c) {
+            return new ContextKey(
+                    Double.doubleToLongBits(c.ta),
+                    Double.doubleToLongBits(c.rh),
+                    Double.doubleToLongBits(c.va),
+                    Double.doubleToLongBits(c.cloud)
+            );
+        }
+    }
+}
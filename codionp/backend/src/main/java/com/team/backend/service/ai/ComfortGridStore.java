@@ -0,0 +1,64 @@
+// src/main/java/com/team/backend/service/ai/ComfortGridStore.java
+package com.team.backend.service.ai;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (region, date) → comfort 점수 격자 double[101] (index = 보정 후 면 비율 cRatio)
+ * - 예보 갱신 후 ComfortGridWarmer 가 채운다 → ComfortAiClient.callBatch(region, date, ...) 에서 아이템 점수는 배열 읽기 한 번 (AI 호출 없음)
+ * - 값이 없는 칸은 NaN (AI 가 해당 비율에 오류를 준 경우)
+ */
+@Component
+public class ComfortGridStore {
+
+    public static final int GRID_SIZE = 101;
+
+    private final Map<Key, Grid> grids = new ConcurrentHashMap<>();
+
+    /**
+     * 원본 비율 그대로 받아 /comfort/batch 와 같은 규칙(0~100, 합 100)으로 보정한 뒤 조회
+     *
+     * @return 격자가 없거나 해당 칸이 비어 있으면 null (호출부에서 ComfortAiClient 로)
+     */
+    public Double score(String region, LocalDate date, Integer cRatio, Integer pRatio) {
+        Grid g = grids.get(new Key(normalizeRegion(region), date));
+        if (g == null) return null;
+
+        double s = g.scores()[ComfortAiClient.normalizeTo100(cRatio, pRatio)[0]];
+        return Double.isNaN(s) ? null : s;
+    }
+
+    public void put(String region, LocalDate date, LocalDateTime weatherFetchedAt, double[] scores) {
+        if (region == null || date == null || scores == null || scores.length != GRID_SIZE) return;
+
+        Key key = new Key(normalizeRegion(region), date);
+        Grid next = new Grid(weatherFetchedAt, scores.clone());
+
+        // 더 오래된 예보 기준 격자가 늦게 도착해도 덮어쓰지 않는다
+        grids.merge(key, next, (cur, in) ->
+                (cur.weatherFetchedAt() != null && in.weatherFetchedAt() != null
+                        && in.weatherFetchedAt().isBefore(cur.weatherFetchedAt())) ? cur : in);
+    }
+
+    public void evictBefore(LocalDate date) {
+        grids.keySet().removeIf(k -> k.date().isBefore(date));
+    }
+
+    public int size() {
+        return grids.size();
+    }
+
+    private static String normalizeRegion(String region) {
+        return (region == null) ? "" : region.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String region, LocalDate date) {}
+
+    private record Grid(LocalDateTime weatherFetchedAt, double[] scores) {}
+}
@@ -0,0 +1,133 @@
+// src/main/java/com/team/backend/service/ai/ComfortGridWarmer.java
+package com.team.backend.service.ai;
+
+import com.team.backend.api.dto.weather.DailyWeatherResponseDto;
+import com.team.backend.domain.DailyWeather;
+import com.team.backend.repository.weather.DailyWeatherRepository;
+import com.team.backend.service.weather.DailyWeatherRefreshedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 예보 갱신 → 지역/날짜별 comfort 격자 미리 계산
+ * - 하루당 /comfort/batch 1회: cRatio 0~100 (101 아이템, itemId = cRatio) × 그날 컨텍스트(기온/습도/풍속/구름)
+ * - daily_weather upsert 커밋 이후 recommendPrecomputeExecutor 에서 실행 (피크 시간 요청 경로와 무관)
+ * - 기동 시 저장된 오늘 이후 예보로 한 번 다시 계산 (격자는 메모리에만 있다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ComfortGridWarmer {
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int WARMUP_DAYS = 7;
+
+    private final ComfortAiClient comfortAiClient;
+    private final ComfortGridStore comfortGridStore;
+    private final DailyWeatherRepository dailyWeatherRepository;
+    private final Executor recommendPrecomputeExecutor;
+
+    @Value("${ai.comfort-grid.enabled:true}")
+    private boolean enabled;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWeatherRefreshed(DailyWeatherRefreshedEvent event) {
+        if (!enabled || event.days() == null || event.days().isEmpty()) return;
+
+        List<Day> days = new ArrayList<>(event.days().size());
+        for (DailyWeatherResponseDto d : event.days()) {
+            days.add(new Day(event.region(), d.getDate(), d.getFetchedAt(), new ComfortAiClient.Context(
+                    d.getTemperature(), d.getHumidity(), d.getWindSpeed(), d.getCloudAmount())));
+        }
+        submit(event.region(), days);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) return;
+
+        try {
+            LocalDate today = LocalDate.now(KST_ZONE);
+            List<Day> days = new ArrayList<>();
+            for (DailyWeather w : dailyWeatherRepository.findAllByDateBetween(today, today.plusDays(WARMUP_DAYS))) {
+                days.add(new Day(w.getRegion(), w.getDate(), w.getFetchedAt(), new ComfortAiClient.Context(
+                        nz(w.getTemperature()), nz(w.getHumidity()), nz(w.getWindSpeed()), nz(w.getCloudAmount()))));
+            }
+            if (!days.isEmpty()) submit("*", days);
+        } catch (Exception e) {
+            log.warn("[COMFORT_GRID_WARMUP_FAIL] {}", e.getMessage());
+        }
+    }
+
+    private void submit(String label, List<Day> days) {
+        try {
+            recommendPrecomputeExecutor.execute(() -> {
+                try {
+                    compute(label, days);
+                } catch (Exception e) {
+                    log.warn("[COMFORT_GRID_FAIL] region={}, {}", label, e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 격자가 없으면 ComfortAiClient.callBatch(region, date, ...) 가 점수 캐시 경로로 처리
+            log.warn("[COMFORT_GRID_REJECTED] region={}", label);
+        }
+    }
+
+    void compute(String label, List<Day> days) {
+        long startedAt = System.currentTimeMillis();
+        LocalDate today = LocalDate.now(KST_ZONE);
+
+        List<ComfortAiClient.Item> items = new ArrayList<>(ComfortGridStore.GRID_SIZE);
+        for (int c = 0; c < ComfortGridStore.GRID_SIZE; c++) {
+            items.add(new ComfortAiClient.Item((long) c, c, 100 - c));
+        }
+
+        int computed = 0;
+        for (Day day : days) {
+            if (day.date() == null || day.date().isBefore(today)) continue;
+
+            try {
+                ComfortAiClient.BatchResponse res = comfortAiClient.callBatch(new ComfortAiClient.BatchRequest(day.context(), items));
+
+                double[] grid = new double[ComfortGridStore.GRID_SIZE];
+                Arrays.fill(grid, Double.NaN);
+                for (ComfortAiClient.Result r : res.results) {
+                    if (r == null || r.itemId == null || r.error != null || r.comfortScore == null) continue;
+                    if (r.itemId < 0 || r.itemId >= ComfortGridStore.GRID_SIZE) continue;
+                    grid[r.itemId.intValue()] = r.comfortScore;
+                }
+                comfortGridStore.put(day.region(), day.date(), day.fetchedAt(), grid);
+                computed++;
+            } catch (Exception e) {
+                // 하루 실패는 건너뛰고 나머지 날짜 계속
+                log.warn("[COMFORT_GRID_DAY_FAIL] region={}, date={}, {}", day.region(), day.date(), e.getMessage());
+            }
+        }
+
+        comfortGridStore.evictBefore(today);
+        log.info("[COMFORT_GRID] region={}, days={}, computed={}, grids={}, elapsedMs={}",
+                label, days.size(), computed, comfortGridStore.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private static double nz(Number v) {
+        return (v == null) ? 0.0 : v.doubleValue();
+    }
+
+    record Day(String region, LocalDate date, LocalDateTime fetchedAt, ComfortAiClient.Context context) {}
+}
@@ -0,0 +1,83 @@
+// src/main/java/com/team/backend/service/ai/ComfortScoreCache.java
+package com.team.backend.service.ai;
+
+import com.team.backend.common.cache.BoundedLruCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * /comfort/batch 아이템 점수 캐시
+ * - 보정 후 입력은 (Ta, RH, Va, cloud, cRatio) 뿐이고 pRatio = 100 - cRatio → 결과 공간이 작고 결정적
+ * - 컨텍스트는 격자(Ta 0.5℃, RH 1%, Va 0.1m/s, cloud 5%)로 스냅한 값을 그대로 AI 에 보낸다
+ *   → 캐시 값은 항상 그 키 입력으로 계산된 점수 (근사 재사용 아님)
+ * - 오류 없는 점수만 저장, 지표: codion.cache.* {cache=comfort}
+ */
+@Component
+public class ComfortScoreCache {
+
+    public static final String CACHE_NAME = "comfort";
+
+    private static final double TA_STEP = 0.5;
+    private static final double RH_STEP = 1.0;
+    private static final double VA_STEP = 0.1;
+    private static final double CLOUD_STEP = 5.0;
+
+    private final BoundedLruCache<Key, Double> cache;
+    private final boolean enabled;
+    private final long ttlMs;
+
+    public ComfortScoreCache(
+            MeterRegistry meterRegistry,
+            @Value("${ai.comfort-cache.enabled:true}") boolean enabled,
+            @Value("${ai.comfort-cache.max-entries:50000}") int maxEntries,
+            @Value("${ai.comfort-cache.ttl-min:60}") long ttlMin
+    ) {
+        this.cache = new BoundedLruCache<Key, Double>(maxEntries).bindTo(meterRegistry, CACHE_NAME);
+        this.enabled = enabled;
+        this.ttlMs = ttlMin * 60_000L;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * 격자로 스냅한 컨텍스트 (캐시 사용 시 AI 요청에도 이 값을 보낸다)
+     */
+    public ComfortAiClient.Context quantize(ComfortAiClient.Context c) {
+        return new ComfortAiClient.Context(
+                snap(c.ta, TA_STEP), snap(c.rh, RH_STEP), snap(c.va, VA_STEP), snap(c.cloud, CLOUD_STEP)
+        );
+    }
+
+    /**
+     * @param ctx quantize 를 거친 컨텍스트
+     */
+    public Double get(ComfortAiClient.Context ctx, int cRatio) {
+        if (!enabled) return null;
+        return cache.get(Key.of(ctx, cRatio));
+    }
+
+    public void put(ComfortAiClient.Context ctx, int cRatio, Double score) {
+        if (!enabled || score == null || !Double.isFinite(score)) return;
+        cache.put(Key.of(ctx, cRatio), score, System.currentTimeMillis() + ttlMs);
+    }
+
+    private static double snap(double v, double step) {
+        return Math.round(v / step) * step;
+    }
+
+    // 격자 인덱스(정수)로 키 → double 오차/ -0.0 과 무관
+    private record Key(long ta, long rh, long va, long cloud, int cRatio) {
+        static Key of(ComfortAiClient.Context c, int cRatio) {
+            return new Key(
+                    Math.round(c.ta / TA_STEP),
+                    Math.round(c.rh / RH_STEP),
+                    Math.round(c.va / VA_STEP),
+                    Math.round(c.cloud / CLOUD_STEP),
+                    cRatio
+            );
+        }
+    }
+}
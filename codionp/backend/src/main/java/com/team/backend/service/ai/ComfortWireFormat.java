@@ -0,0 +1,145 @@
+// src/main/java/com/team/backend/service/ai/ComfortWireFormat.java
+package com.team.backend.service.ai;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.team.backend.config.AiUpstreamException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * /comfort/batch 컬럼형 전송 포맷 협상
+ * - 기본은 기존 JSON(아이템당 객체). AI 가 2xx 응답 헤더 X-Comfort-Formats 에 columnar 를 광고하면 그때부터 컬럼형
+ * - 컬럼형 요청: {"context": {...}, "item_id": [..], "c_ratio": [..]} (보정 후 p_ratio = 100 - c_ratio 라 생략)
+ * - 컬럼형 응답: {"comfort_score": [..], "error": [..]} 요청 순서 그대로 (error 는 오류가 있을 때만)
+ * - 컬럼형 요청이 4xx 로 거절되면 JSON 으로 내려가고, 다음 광고를 다시 기다린다
+ * - 지표: codion.comfort.wire.columnar (1 = 컬럼형 사용 중)
+ */
+@Slf4j
+@Component
+public class ComfortWireFormat {
+
+    public static final String COLUMNAR_MEDIA_TYPE = "application/vnd.codion.comfort-columnar+json";
+    public static final String FORMATS_HEADER = "X-Comfort-Formats";
+
+    private static final String COLUMNAR = "columnar";
+
+    private final boolean enabled;
+    private volatile boolean columnar;
+
+    public ComfortWireFormat(
+            MeterRegistry meterRegistry,
+            @Value("${ai.comfort-wire.columnar.enabled:true}") boolean enabled
+    ) {
+        this.enabled = enabled;
+        Gauge.builder("codion.comfort.wire.columnar", this, f -> f.useColumnar() ? 1 : 0).register(meterRegistry);
+    }
+
+    public boolean useColumnar() {
+        return enabled && columnar;
+    }
+
+    /**
+     * @param advertised 2xx 응답의 X-Comfort-Formats 값 (없으면 null)
+     */
+    public void observe(String advertised) {
+        if (!enabled) return;
+
+        boolean supported = advertised != null && advertised.toLowerCase(Locale.ROOT).contains(COLUMNAR);
+        if (supported != columnar) {
+            columnar = supported;
+            log.info("[COMFORT_WIRE] columnar={}", supported);
+        }
+    }
+
+    public void downgrade() {
+        if (columnar) {
+            columnar = false;
+            log.warn("[COMFORT_WIRE] columnar rejected by AI → json");
+        }
+    }
+
+    /**
+     * 컬럼형 요청을 거절한 것으로 보는 응답 (포맷 미지원)
+     */
+    public static boolean isFormatRejected(Throwable e) {
+        if (!(e instanceof AiUpstreamException u) || u.getCode() == null) return false;
+        return switch (u.getCode()) {
+            case "AI_HTTP_400", "AI_HTTP_404", "AI_HTTP_406", "AI_HTTP_415", "AI_HTTP_422" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * @param sanitized 보정이 끝난 요청 (c_ratio + p_ratio = 100)
+     */
+    public static ColumnarRequest encode(ComfortAiClient.BatchRequest sanitized) {
+        int n = sanitized.items.size();
+        ColumnarRequest out = new ColumnarRequest();
+        out.context = sanitized.context;
+        out.itemId = new long[n];
+        out.cRatio = new int[n];
+        for (int i = 0; i < n; i++) {
+            ComfortAiClient.Item it = sanitized.items.get(i);
+            out.itemId[i] = it.itemId;
+            out.cRatio[i] = it.cRatio;
+        }
+        return out;
+    }
+
+    /**
+     * 요청 순서 기준으로 기존 BatchResponse 로 되돌린다 (AI 가 JSON results 로 답해도 그대로 사용)
+     */
+    public static ComfortAiClient.BatchResponse decode(ComfortAiClient.BatchRequest sent, ColumnarResponse res) {
+        ComfortAiClient.BatchResponse out = new ComfortAiClient.BatchResponse();
+        if (res.results != null) {
+            out.results = res.results;
+            return out;
+        }
+
+        int n = sent.items.size();
+        if (res.comfortScore == null || res.comfortScore.size() != n
+                || (res.error != null && res.error.size() != n)) {
+            throw new AiUpstreamException("AI_BAD_SCHEMA", 502, "AI columnar response size mismatch (expected " + n + ")");
+        }
+
+        List<ComfortAiClient.Result> results = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ComfortAiClient.Result r = new ComfortAiClient.Result();
+            r.itemId = sent.items.get(i).itemId;
+            r.comfortScore = res.comfortScore.get(i);
+            r.error = (res.error == null) ? null : res.error.get(i);
+            results.add(r);
+        }
+        out.results = results;
+        return out;
+    }
+
+    // DTO
+    public static class ColumnarRequest {
+        @JsonProperty("context")
+        public ComfortAiClient.Context context;
+        @JsonProperty("item_id")
+        public long[] itemId;
+        @JsonProperty("c_ratio")
+        public int[] cRatio;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ColumnarResponse {
+        @JsonProperty("comfort_score")
+        public List<Double> comfortScore;
+        @JsonProperty("error")
+        public List<String> error;
+        // 컬럼형을 모르는 서버가 JSON 으로 답한 경우
+        @JsonProperty("results")
+        public List<ComfortAiClient.Result> results;
+    }
+}
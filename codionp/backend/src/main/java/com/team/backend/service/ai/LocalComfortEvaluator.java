@@ -0,0 +1,142 @@
+// src/main/java/com/team/backend/service/ai/LocalComfortEvaluator.java
+package com.team.backend.service.ai;
+
+import com.team.backend.service.ai.lgbm.LightGbmModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * /comfort/batch 의 in-JVM 버전 (ai.comfort-mode=local 일 때만 모델 로드)
+ * - weather_material_pmv (LightGBM 회귀, 0~100 점) 텍스트 덤프를 LightGbmModel 로 컴파일해 HTTP 없이 점수 계산
+ * - 특성 순서(학습 순서): temp, humidity, precip_prob, wind_speed, temp_diff, warmth, breathability, water_res
+ * - Context 에 없는 강수확률/일교차는 고정값, 소재 물성은 면/폴리 비율로 material_data.py(Medium) 값을 가중 평균
+ * - 입력은 ComfortAiClient 가 보정(sanitize)한 요청 → 비율 합 100 보장
+ * - 한 배치 안에서 날씨 특성은 같고 소재 특성은 면 비율(0~100)로만 정해진다 → 서로 다른 비율만 평가 (최대 101행)
+ */
+@Slf4j
+@Component
+public class LocalComfortEvaluator {
+
+    public static final String MODE_REMOTE = "remote";
+    public static final String MODE_LOCAL = "local";
+
+    private static final List<String> FEATURES = List.of(
+            "temp", "humidity", "precip_prob", "wind_speed", "temp_diff", "warmth", "breathability", "water_res"
+    );
+
+    // Context 에 없는 값
+    private static final double DEFAULT_PRECIP_PROB = 0.0;
+    private static final double DEFAULT_TEMP_DIFF = 8.0;
+
+    // material_data.py MATERIAL_DB (Medium): {warmth, breathability, water_res}
+    private static final double[] COTTON = {2.0, 4.0, 1.0};
+    private static final double[] POLYESTER = {3.0, 3.0, 4.0};
+
+    private final LightGbmModel model; // remote 모드면 null
+
+    public LocalComfortEvaluator(
+            ResourceLoader resourceLoader,
+            @Value("${ai.comfort-mode:remote}") String mode,
+            @Value("${ai.comfort-local.model:classpath:ai/weather_material_pmv.txt}") String modelLocation
+    ) {
+        String m = (mode == null) ? MODE_REMOTE : mode.trim().toLowerCase(Locale.ROOT);
+        if (!MODE_REMOTE.equals(m) && !MODE_LOCAL.equals(m)) {
+            throw new IllegalArgumentException("ai.comfort-mode는 remote 또는 local 만 허용됩니다. mode=" + mode);
+        }
+        this.model = MODE_LOCAL.equals(m) ? load(resourceLoader.getResource(modelLocation)) : null;
+    }
+
+    public boolean enabled() {
+        return model != null;
+    }
+
+    /**
+     * @param request ComfortAiClient.sanitizeRequest 를 거친 요청
+     */
+    public ComfortAiClient.BatchResponse evaluate(ComfortAiClient.BatchRequest request) {
+        if (model == null) throw new IllegalStateException("로컬 comfort 모델이 로드되지 않았습니다. (ai.comfort-mode=local)");
+
+        ComfortAiClient.Context c = request.context;
+        List<ComfortAiClient.Item> items = request.items;
+        int n = items.size();
+        int nf = FEATURES.size();
+
+        // 면 비율 → 평가 행 번호 (같은 비율 아이템은 한 번만 평가)
+        int[] rowOfRatio = new int[101];
+        Arrays.fill(rowOfRatio, -1);
+        int[] rowOfItem = new int[n];
+        int distinct = 0;
+        double[] rows = new double[Math.min(n, 101) * nf];
+
+        for (int i = 0; i < n; i++) {
+            ComfortAiClient.Item it = items.get(i);
+            int ratio = it.cRatio;
+            if (rowOfRatio[ratio] >= 0) {
+                rowOfItem[i] = rowOfRatio[ratio];
+                continue;
+            }
+            int row = distinct++;
+            rowOfRatio[ratio] = row;
+            rowOfItem[i] = row;
+
+            double cw = it.cRatio / 100.0;
+            double pw = it.pRatio / 100.0;
+
+            int b = row * nf;
+            rows[b] = c.ta;
+            rows[b + 1] = c.rh;
+            rows[b + 2] = DEFAULT_PRECIP_PROB;
+            rows[b + 3] = c.va;
+            rows[b + 4] = DEFAULT_TEMP_DIFF;
+            rows[b + 5] = cw * COTTON[0] + pw * POLYESTER[0];
+            rows[b + 6] = cw * COTTON[1] + pw * POLYESTER[1];
+            rows[b + 7] = cw * COTTON[2] + pw * POLYESTER[2];
+        }
+
+        double[] scores = new double[distinct];
+        model.predictBatch(rows, distinct, scores);
+
+        List<ComfortAiClient.Result> results = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ComfortAiClient.Result r = new ComfortAiClient.Result();
+            r.itemId = items.get(i).itemId;
+            r.comfortScore = round3(Math.max(0.0, Math.min(100.0, scores[rowOfItem[i]])));
+            results.add(r);
+        }
+
+        ComfortAiClient.BatchResponse res = new ComfortAiClient.BatchResponse();
+        res.results = results;
+        return res;
+    }
+
+    private static LightGbmModel load(Resource resource) {
+        long startedAt = System.currentTimeMillis();
+        try (Reader r = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            LightGbmModel m = LightGbmModel.parse(r);
+            if (!FEATURES.equals(m.featureNames())) {
+                throw new IllegalStateException("comfort 모델 특성 순서가 다릅니다. expected=" + FEATURES + ", actual=" + m.featureNames());
+            }
+            log.info("[COMFORT_LOCAL] loaded model={}, trees={}, features={}, elapsedMs={}",
+                    resource.getDescription(), m.numTrees(), m.numFeatures(), System.currentTimeMillis() - startedAt);
+            return m;
+        } catch (IOException e) {
+            throw new IllegalStateException("comfort 모델 로드 실패: " + resource.getDescription(), e);
+        }
+    }
+
+    private static double round3(double v) {
+        return Math.round(v * 1000.0) / 1000.0;
+    }
+}
@@ -11,23 +11,51 @@ import org.springframework.web.client.*;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
 public class RecommendationAiClient {
 
     private final RestTemplate aiRestTemplate;
+    private final AiAsyncTransport aiAsyncTransport;
+    private final AiUpstreamGuard aiUpstreamGuard;
 
     @Value("${ai.recommend-path:/recommend}")
     private String recommendPath;
 
-    public RecommendationAiClient(@Qualifier("aiRestTemplate") RestTemplate aiRestTemplate) {
+    public RecommendationAiClient(
+            @Qualifier("aiRestTemplate") RestTemplate aiRestTemplate,
+            AiAsyncTransport aiAsyncTransport,
+            AiUpstreamGuard aiUpstreamGuard
+    ) {
         this.aiRestTemplate = aiRestTemplate;
+        this.aiAsyncTransport = aiAsyncTransport;
+        this.aiUpstreamGuard = aiUpstreamGuard;
+    }
+
+    /**
+     * recommend 의 비동기 버전 (응답 대기 중 스레드 점유 없음)
+     * - 실패는 모두 future 로 전달 (검증 실패 IllegalArgumentException, 업스트림 실패 같은 AiUpstreamException)
+     * - AiUpstreamGuard 가 거절하면 호출 없이 AI_SHED 로 끝난 future
+     */
+    public CompletableFuture<RecommendationAiDto.RecommendationResponse> recommendAsync(RecommendationAiDto.RecommendationRequest req) {
+        try {
+            validateRequest(req);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return aiUpstreamGuard.callAsync(() -> aiAsyncTransport
+                .postJson(normalizePath(recommendPath), req, RecommendationAiDto.RecommendationResponse.class)
+                .thenApply(this::checkBody));
     }
 
     public RecommendationAiDto.RecommendationResponse recommend(RecommendationAiDto.RecommendationRequest req) {
         validateRequest(req);
+        return aiUpstreamGuard.call(() -> post(req));
+    }
 
+    private RecommendationAiDto.RecommendationResponse post(RecommendationAiDto.RecommendationRequest req) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
@@ -43,23 +71,7 @@ public class RecommendationAiClient {
                 throw new AiUpstreamException("AI_BAD_RESPONSE", 502, "AI returned empty body");
             }
 
-            // AI가 200이어도 status=fail/error로 내려줄 수 있으니 여기서 걸러준다.
-            RecommendationAiDto.RecommendationResponse body = res.getBody();
-            String st = (body.status == null ? "" : body.status.trim().toLowerCase());
-
-            if (!"success".equals(st)) {
-                throw new AiUpstreamException(
-                        "AI_APP_FAIL",
-                        502,
-                        "AI status is not success. status=" + body.status + ", message=" + body.message
-                );
-            }
-
-            if (body.recommendations == null) {
-                throw new AiUpstreamException("AI_BAD_SCHEMA", 502, "AI recommendations is null");
-            }
-
-            return body;
+            return checkBody(res.getBody());
 
         } catch (HttpStatusCodeException e) {
             throw new AiUpstreamException(
@@ -74,6 +86,25 @@ public class RecommendationAiClient {
         }
     }
 
+    // AI가 200이어도 status=fail/error로 내려줄 수 있으니 여기서 걸러준다.
+    private RecommendationAiDto.RecommendationResponse checkBody(RecommendationAiDto.RecommendationResponse body) {
+        String st = (body.status == null ? "" : body.status.trim().toLowerCase());
+
+        if (!"success".equals(st)) {
+            throw new AiUpstreamException(
+                    "AI_APP_FAIL",
+                    502,
+                    "AI status is not success. status=" + body.status + ", message=" + body.message
+            );
+        }
+
+        if (body.recommendations == null) {
+            throw new AiUpstreamException("AI_BAD_SCHEMA", 502, "AI recommendations is null");
+        }
+
+        return body;
+    }
+
     private void validateRequest(RecommendationAiDto.RecommendationRequest req) {
         if (req == null) throw new IllegalArgumentException("req is required");
         if (req.weather == null) throw new IllegalArgumentException("weather is required");
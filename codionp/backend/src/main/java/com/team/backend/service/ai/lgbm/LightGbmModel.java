@@ -0,0 +1,302 @@
+// src/main/java/com/team/backend/service/ai/lgbm/LightGbmModel.java
+package com.team.backend.service.ai.lgbm;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LightGBM 텍스트 덤프(booster.save_model) 평가기
+ * - 로드 시 모든 트리를 노드 배열 하나로 펼친다 (split_feature/threshold/자식 인덱스/리프 값 → 원시 배열)
+ * - 내부 노드 자식이 음수면 리프: ~child = 전역 리프 인덱스
+ * - 수치 분기만 지원 (categorical / linear_tree 모델은 로드 시 거절)
+ * - 불변 객체 → 여러 스레드에서 동시에 predict 가능
+ */
+public final class LightGbmModel {
+
+    private static final int DT_DEFAULT_LEFT = 1 << 1;
+    private static final int MISSING_NONE = 0;
+    private static final int MISSING_ZERO = 1;
+    private static final int MISSING_NAN = 2;
+    private static final double ZERO_THRESHOLD = 1e-35;
+
+    private final String[] featureNames;
+    private final String objective;
+    private final double sigmoid;   // binary 일 때만
+    private final boolean averageOutput;
+
+    private final int[] treeRoot;   // >= 0 이면 노드 인덱스, < 0 이면 ~리프 (리프 1개짜리 트리)
+    private final int[] splitFeature;
+    private final double[] threshold;
+    private final byte[] decision;  // bit1 default_left, bit2~3 missing type
+    private final int[] children;   // [2n] = 왼쪽, [2n+1] = 오른쪽
+    private final double[] leafValue;
+    private final boolean plainSplits; // 모든 노드 missing type None → NaN 만 0 으로 바꾸고 v <= th 만 비교
+
+    private LightGbmModel(
+            String[] featureNames, String objective, double sigmoid, boolean averageOutput,
+            int[] treeRoot, int[] splitFeature, double[] threshold, byte[] decision,
+            int[] children, double[] leafValue
+    ) {
+        this.featureNames = featureNames;
+        this.objective = objective;
+        this.sigmoid = sigmoid;
+        this.averageOutput = averageOutput;
+        this.treeRoot = treeRoot;
+        this.splitFeature = splitFeature;
+        this.threshold = threshold;
+        this.decision = decision;
+        this.children = children;
+        this.leafValue = leafValue;
+
+        boolean plain = true;
+        for (byte dt : decision) {
+            if (((dt >> 2) & 3) != MISSING_NONE) {
+                plain = false;
+                break;
+            }
+        }
+        this.plainSplits = plain;
+    }
+
+    public int numFeatures() {
+        return featureNames.length;
+    }
+
+    public int numTrees() {
+        return treeRoot.length;
+    }
+
+    public List<String> featureNames() {
+        return List.of(featureNames);
+    }
+
+    public String objective() {
+        return objective;
+    }
+
+    /**
+     * @param x numFeatures() 길이 특성 벡터
+     */
+    public double predict(double[] x) {
+        if (x == null || x.length < featureNames.length) {
+            throw new IllegalArgumentException("특성 개수가 모델과 다릅니다. expected=" + featureNames.length);
+        }
+        double sum = 0.0;
+        for (int t = 0; t < treeRoot.length; t++) {
+            sum += leafValue[leafOf(treeRoot[t], x, 0)];
+        }
+        return transform(sum);
+    }
+
+    /**
+     * 행 우선(row-major) 배치 평가: rows[i * numFeatures() + f]
+     * - 트리 바깥 루프 → 한 트리의 노드 배열을 캐시에 올린 채 모든 행을 통과시킨다
+     */
+    public void predictBatch(double[] rows, int n, double[] out) {
+        int nf = featureNames.length;
+        if (rows == null || rows.length < n * nf) {
+            throw new IllegalArgumentException("rows 길이가 n * numFeatures 보다 작습니다.");
+        }
+        if (out == null || out.length < n) {
+            throw new IllegalArgumentException("out 길이가 n 보다 작습니다.");
+        }
+
+        Arrays.fill(out, 0, n, 0.0);
+        for (int t = 0; t < treeRoot.length; t++) {
+            int root = treeRoot[t];
+            for (int i = 0; i < n; i++) {
+                out[i] += leafValue[leafOf(root, rows, i * nf)];
+            }
+        }
+        for (int i = 0; i < n; i++) out[i] = transform(out[i]);
+    }
+
+    private int leafOf(int node, double[] x, int base) {
+        if (plainSplits) {
+            while (node >= 0) {
+                double v = x[base + splitFeature[node]];
+                if (v != v) v = 0.0; // NaN
+                node = children[(node << 1) + (v <= threshold[node] ? 0 : 1)];
+            }
+            return ~node;
+        }
+        while (node >= 0) {
+            double v = x[base + splitFeature[node]];
+            node = children[(node << 1) + (goLeft(decision[node], threshold[node], v) ? 0 : 1)];
+        }
+        return ~node;
+    }
+
+    // LightGBM NumericalDecision 과 같은 규칙
+    private static boolean goLeft(byte dt, double th, double v) {
+        int missingType = (dt >> 2) & 3;
+        if (Double.isNaN(v) && missingType != MISSING_NAN) v = 0.0;
+        if ((missingType == MISSING_ZERO && v >= -ZERO_THRESHOLD && v <= ZERO_THRESHOLD)
+                || (missingType == MISSING_NAN && Double.isNaN(v))) {
+            return (dt & DT_DEFAULT_LEFT) != 0;
+        }
+        return v <= th;
+    }
+
+    private double transform(double raw) {
+        double v = averageOutput ? raw / treeRoot.length : raw;
+        if (objective.startsWith("binary")) return 1.0 / (1.0 + Math.exp(-sigmoid * v));
+        return v;
+    }
+
+    // =========================
+    // 텍스트 덤프 파싱
+    // =========================
+
+    public static LightGbmModel parse(Reader reader) throws IOException {
+        BufferedReader br = (reader instanceof BufferedReader b) ? b : new BufferedReader(reader);
+
+        Map<String, String> header = new HashMap<>();
+        List<Map<String, String>> trees = new ArrayList<>();
+        Map<String, String> current = null;
+
+        String line;
+        while ((line = br.readLine()) != null) {
+            if (line.startsWith("end of trees")) break;
+            if (line.isEmpty()) continue;
+
+            // '=' 없는 줄은 플래그 (예: average_output) → 값 없이 키만 기록
+            int eq = line.indexOf('=');
+            String key = (eq < 0) ? line.trim() : line.substring(0, eq);
+            String value = (eq < 0) ? "" : line.substring(eq + 1);
+
+            if ("Tree".equals(key)) {
+                current = new HashMap<>();
+                trees.add(current);
+                continue;
+            }
+            (current == null ? header : current).put(key, value);
+        }
+
+        if (trees.isEmpty()) throw new IllegalStateException("LightGBM 모델에 트리가 없습니다.");
+        if (!"1".equals(header.getOrDefault("num_class", "1"))) {
+            throw new IllegalStateException("다중 클래스 LightGBM 모델은 지원하지 않습니다.");
+        }
+
+        String[] names = header.getOrDefault("feature_names", "").trim().split(" ");
+        int maxFeatureIdx = Integer.parseInt(header.getOrDefault("max_feature_idx", String.valueOf(names.length - 1)).trim());
+        if (names.length != maxFeatureIdx + 1) {
+            throw new IllegalStateException("feature_names 개수와 max_feature_idx 가 맞지 않습니다.");
+        }
+
+        String objLine = header.getOrDefault("objective", "regression").trim();
+        String objective = objLine.split(" ")[0];
+        double sigmoid = 1.0;
+        for (String tok : objLine.split(" ")) {
+            if (tok.startsWith("sigmoid:")) sigmoid = Double.parseDouble(tok.substring("sigmoid:".length()));
+        }
+        if (!objective.startsWith("regression") && !objective.startsWith("binary")) {
+            throw new IllegalStateException("지원하지 않는 objective 입니다: " + objective);
+        }
+        boolean averageOutput = header.containsKey("average_output");
+
+        int totalNodes = 0;
+        int totalLeaves = 0;
+        for (Map<String, String> t : trees) {
+            int leaves = Integer.parseInt(t.get("num_leaves").trim());
+            totalLeaves += leaves;
+            totalNodes += leaves - 1;
+        }
+
+        int[] treeRoot = new int[trees.size()];
+        int[] splitFeature = new int[totalNodes];
+        double[] threshold = new double[totalNodes];
+        byte[] decision = new byte[totalNodes];
+        int[] children = new int[totalNodes * 2];
+        double[] leafValue = new double[totalLeaves];
+
+        int nodeBase = 0;
+        int leafBase = 0;
+        for (int ti = 0; ti < trees.size(); ti++) {
+            Map<String, String> t = trees.get(ti);
+            int leaves = Integer.parseInt(t.get("num_leaves").trim());
+            if (!"0".equals(t.getOrDefault("num_cat", "0").trim())) {
+                throw new IllegalStateException("categorical 분기가 있는 트리는 지원하지 않습니다. tree=" + ti);
+            }
+            if (!"0".equals(t.getOrDefault("is_linear", "0").trim())) {
+                throw new IllegalStateException("linear_tree 모델은 지원하지 않습니다. tree=" + ti);
+            }
+
+            double[] lv = doubles(t, "leaf_value", leaves);
+            System.arraycopy(lv, 0, leafValue, leafBase, leaves);
+
+            if (leaves == 1) {
+                treeRoot[ti] = ~leafBase;
+            } else {
+                int internal = leaves - 1;
+                int[] sf = ints(t, "split_feature", internal);
+                double[] th = doubles(t, "threshold", internal);
+                int[] dt = ints(t, "decision_type", internal);
+                int[] lc = ints(t, "left_child", internal);
+                int[] rc = ints(t, "right_child", internal);
+
+                for (int j = 0; j < internal; j++) {
+                    if ((dt[j] & 1) != 0) {
+                        throw new IllegalStateException("categorical 분기는 지원하지 않습니다. tree=" + ti);
+                    }
+                    if (sf[j] < 0 || sf[j] > maxFeatureIdx) {
+                        throw new IllegalStateException("split_feature 범위 오류. tree=" + ti);
+                    }
+                    int n = nodeBase + j;
+                    splitFeature[n] = sf[j];
+                    threshold[n] = th[j];
+                    decision[n] = (byte) dt[j];
+                    children[n << 1] = child(lc[j], nodeBase, leafBase, leaves);
+                    children[(n << 1) + 1] = child(rc[j], nodeBase, leafBase, leaves);
+                }
+                treeRoot[ti] = nodeBase;
+                nodeBase += internal;
+            }
+            leafBase += leaves;
+        }
+
+        return new LightGbmModel(names, objective, sigmoid, averageOutput,
+                treeRoot, splitFeature, threshold, decision, children, leafValue);
+    }
+
+    // 트리 내부 인덱스 → 전역 인덱스 (리프는 ~전역 리프)
+    private static int child(int c, int nodeBase, int leafBase, int leaves) {
+        if (c >= 0) {
+            if (c >= leaves - 1) throw new IllegalStateException("child 인덱스 범위 오류: " + c);
+            return nodeBase + c;
+        }
+        int leaf = ~c;
+        if (leaf >= leaves) throw new IllegalStateException("leaf 인덱스 범위 오류: " + leaf);
+        return ~(leafBase + leaf);
+    }
+
+    private static int[] ints(Map<String, String> t, String key, int expected) {
+        String[] toks = tokens(t, key, expected);
+        int[] out = new int[expected];
+        for (int i = 0; i < expected; i++) out[i] = Integer.parseInt(toks[i]);
+        return out;
+    }
+
+    private static double[] doubles(Map<String, String> t, String key, int expected) {
+        String[] toks = tokens(t, key, expected);
+        double[] out = new double[expected];
+        for (int i = 0; i < expected; i++) out[i] = Double.parseDouble(toks[i]);
+        return out;
+    }
+
+    private static String[] tokens(Map<String, String> t, String key, int expected) {
+        String v = t.get(key);
+        if (v == null) throw new IllegalStateException("트리 필드 누락: " + key);
+        String[] toks = v.trim().split(" ");
+        if (toks.length != expected) {
+            throw new IllegalStateException("트리 필드 길이 오류: " + key + " expected=" + expected + ", actual=" + toks.length);
+        }
+        return toks;
+    }
+}
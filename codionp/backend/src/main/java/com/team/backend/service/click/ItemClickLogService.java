@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team.backend.api.dto.log.ItemClickLogCreateRequestDto;
 import com.team.backend.api.dto.log.ItemClickLogResponseDto;
 import com.team.backend.repository.log.ItemClickLogWriterJdbcRepository;
+import com.team.backend.service.recommendation.affinity.UserAffinityStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ItemClickLogService {
     private final ItemClickLogWriterJdbcRepository itemClickLogWriterJdbcRepository;
     private final ObjectMapper objectMapper;
+    private final UserAffinityStore userAffinityStore;
 
     @Transactional
     public ItemClickLogResponseDto create(ItemClickLogCreateRequestDto req) {
@@ -28,11 +30,19 @@ public class ItemClickLogService {
             }
         }
 
-        return itemClickLogWriterJdbcRepository.insert(
+        ItemClickLogResponseDto saved = itemClickLogWriterJdbcRepository.insert(
                 req.getUserId(),
                 req.getClothingItemId(),
                 String.valueOf(req.getEventType()),
                 payloadJson
         );
+
+        // 회원 클릭이면 취향 벡터 증분 반영 (커밋 이후)
+        long clickedAtMs = (saved.getCreatedAt() == null)
+                ? System.currentTimeMillis()
+                : saved.getCreatedAt().toInstant().toEpochMilli();
+        userAffinityStore.onClick(req.getUserId(), req.getClothingItemId(), clickedAtMs);
+
+        return saved;
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+// src/main/java/com/team/backend/service/clothing/CatalogItem.java
+package com.team.backend.service.clothing;
+
+import com.team.backend.domain.ClothingItem;
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.domain.enums.ComfortZone;
+import com.team.backend.domain.enums.SeasonType;
+import com.team.backend.domain.enums.ThicknessLevel;
+import com.team.backend.domain.enums.UsageType;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * clothing_item 1행의 불변 스냅샷 (추천 후보군 계산 전용)
+ * - JPA 영속성 컨텍스트와 분리된 값 객체라 여러 스레드에서 그대로 공유 가능
+ * - seasons(ElementCollection)는 SeasonType ordinal 비트마스크(seasonMask)로만 담는다
+ */
+public record CatalogItem(
+        Long id,
+        Long clothingId,
+        String name,
+        ClothingCategory category,
+        ThicknessLevel thicknessLevel,
+        UsageType usageType,
+        Integer suitableMinTemp,
+        Integer suitableMaxTemp,
+        Integer cottonPercentage,
+        Integer polyesterPercentage,
+        Integer etcFiberPercentage,
+        String color,
+        String styleTag,
+        String imageUrl,
+        int selectedCount,
+        byte seasonMask
+) {
+
+    /**
+     * 영속 엔티티에서 변환 (seasons LAZY 로딩 → 트랜잭션 안에서만)
+     */
+    public static CatalogItem from(ClothingItem e) {
+        return from(e, seasonMask(e.getSeasons()));
+    }
+
+    /**
+     * seasons 를 따로 모아 읽은 경우 (스냅샷 재적재 - 아이템별 LAZY 로딩 없음)
+     */
+    public static CatalogItem from(ClothingItem e, byte seasonMask) {
+        return new CatalogItem(
+                e.getId(),
+                e.getClothingId(),
+                e.getName(),
+                e.getCategory(),
+                e.getThicknessLevel(),
+                e.getUsageType(),
+                e.getSuitableMinTemp(),
+                e.getSuitableMaxTemp(),
+                e.getCottonPercentage(),
+                e.getPolyesterPercentage(),
+                e.getEtcFiberPercentage(),
+                e.getColor(),
+                e.getStyleTag(),
+                e.getImageUrl(),
+                e.getSelectedCount() == null ? 0 : e.getSelectedCount(),
+                seasonMask
+        );
+    }
+
+    public static byte seasonMask(Collection<SeasonType> seasons) {
+        if (seasons == null) return 0;
+        int mask = 0;
+        for (SeasonType s : seasons) {
+            if (s != null) mask |= 1 << s.ordinal();
+        }
+        return (byte) mask;
+    }
+
+    public Set<SeasonType> seasons() {
+        Set<SeasonType> out = EnumSet.noneOf(SeasonType.class);
+        for (SeasonType s : SeasonType.values()) {
+            if ((seasonMask & (1 << s.ordinal())) != 0) out.add(s);
+        }
+        return out;
+    }
+
+    public boolean matches(ComfortZone zone) {
+        return zone.matches(category, thicknessLevel, suitableMinTemp, suitableMaxTemp);
+    }
+
+    /**
+     * 적정 온도 구간의 중앙값 (한쪽만 있으면 그 값, 둘 다 없으면 null)
+     */
+    public Double tempCenter() {
+        if (suitableMinTemp == null && suitableMaxTemp == null) return null;
+        if (suitableMinTemp == null) return suitableMaxTemp.doubleValue();
+        if (suitableMaxTemp == null) return suitableMinTemp.doubleValue();
+        return (suitableMinTemp + suitableMaxTemp) / 2.0;
+    }
+}
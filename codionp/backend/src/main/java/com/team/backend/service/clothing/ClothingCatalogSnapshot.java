@@ -0,0 +1,212 @@
+// src/main/java/com/team/backend/service/clothing/ClothingCatalogSnapshot.java
+package com.team.backend.service.clothing;
+
+import com.team.backend.domain.enums.SeasonType;
+import com.team.backend.repository.clothing.ClothingItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * clothing_item 카탈로그 인메모리 스냅샷
+ * - 추천 요청마다 DB를 치지 않도록 전체 카탈로그를 값 객체(CatalogItem)로 들고 있는다
+ * - 점수 계산/AI 요청 조립용 컬럼형 특징 저장소(ItemFeatureStore)를 같이 유지
+ * - 생성/수정/삭제는 커밋 이후 해당 아이템만 증분 반영 (맵 1건 + 특징 행 1개 + 후보 행렬의 관련 셀만)
+ * - 다른 인스턴스/직접 DB 수정(selectedCount 등) 대비로 TTL 경과 시 전체 재적재
+ *   첫 적재만 호출 스레드가 기다리고, 이후 재적재는 recommendPrecomputeExecutor 에서 1건만 (그동안 이전 스냅샷 제공)
+ *   재적재 중 들어온 증분 변경은 모아 두었다가 새 스냅샷에 다시 반영한 뒤 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClothingCatalogSnapshot {
+
+    private final ClothingItemRepository clothingItemRepository;
+    private final Executor recommendPrecomputeExecutor;
+
+    @Value("${codi.recommend.catalog-ttl-sec:300}")
+    private long catalogTtlSec;
+
+    // 읽기는 락 없이, 쓰기(증분 반영/재적재)는 this 모니터로 직렬화
+    private volatile State state;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    // 백그라운드 재적재 중 들어온 증분 변경 (this 모니터 안에서만 접근, 재적재 중이 아니면 null)
+    private List<CatalogItem[]> changesDuringRefresh;
+
+    /**
+     * 현재 카탈로그 전체 (순서 보장 없음)
+     */
+    public Collection<CatalogItem> items() {
+        return Collections.unmodifiableCollection(current().byClothingId().values());
+    }
+
+    public Optional<CatalogItem> findByClothingId(Long clothingId) {
+        if (clothingId == null) return Optional.empty();
+        return Optional.ofNullable(current().byClothingId().get(clothingId));
+    }
+
+    /**
+     * clothing_item.id(PK) 로 조회 (item_click_log.clothing_item_id 가 PK 를 가리킨다)
+     */
+    public Optional<CatalogItem> findById(Long id) {
+        if (id == null) return Optional.empty();
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    /**
+     * 컬럼형 특징 저장소 (clothingId → ordinal → 원시 배열)
+     */
+    public ItemFeatureStore features() {
+        return current().features();
+    }
+
+    /**
+     * ComfortZone × 카테고리 × 용도 후보 행렬
+     */
+    public ComfortCandidateMatrix matrix() {
+        return current().matrix();
+    }
+
+    /**
+     * 아이템 변경 알림 (before: 생성이면 null, after: 삭제면 null)
+     * - 트랜잭션 안이면 커밋 이후에 반영 (롤백된 변경이 스냅샷에 남지 않도록)
+     */
+    public void onChanged(CatalogItem before, CatalogItem after) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(before, after);
+                }
+            });
+            return;
+        }
+        apply(before, after);
+    }
+
+    private synchronized void apply(CatalogItem before, CatalogItem after) {
+        State s = state;
+        if (s == null) return; // 아직 적재 전이면 첫 조회 때 DB에서 최신으로 읽힌다
+
+        if (changesDuringRefresh != null) changesDuringRefresh.add(new CatalogItem[]{before, after});
+        applyTo(s, before, after);
+    }
+
+    // 같은 변경을 두 번 반영해도 결과가 같다 (재적재 결과에 이미 들어있는 변경을 다시 반영하는 경우)
+    private static void applyTo(State s, CatalogItem before, CatalogItem after) {
+        // 행렬에 있는 id는 항상 맵/특징 저장소에서 찾을 수 있도록: 추가 → 행렬 → 제거 순서
+        if (after != null) {
+            s.byClothingId().put(after.clothingId(), after);
+            if (after.id() != null) s.byId().put(after.id(), after);
+            s.features().append(after);
+        }
+        s.matrix().apply(before, after);
+        if (before != null && (after == null || !before.clothingId().equals(after.clothingId()))) {
+            s.byClothingId().remove(before.clothingId());
+            s.features().remove(before.clothingId());
+        }
+        if (before != null && before.id() != null && (after == null || !before.id().equals(after.id()))) {
+            s.byId().remove(before.id());
+        }
+    }
+
+    private State current() {
+        State s = state;
+        if (s != null) {
+            if (isExpired(s)) refreshInBackground();
+            return s;
+        }
+
+        synchronized (this) {
+            s = state;
+            if (s != null) return s;
+
+            s = load();
+            state = s;
+            return s;
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) return;
+        try {
+            recommendPrecomputeExecutor.execute(this::refresh);
+        } catch (RejectedExecutionException e) {
+            // 풀이 차면 이번엔 이전 스냅샷 그대로, 다음 조회 때 다시 시도
+            refreshing.set(false);
+            log.warn("[CATALOG_SNAPSHOT] refresh rejected, keep serving stale snapshot");
+        }
+    }
+
+    private void refresh() {
+        try {
+            synchronized (this) {
+                changesDuringRefresh = new ArrayList<>();
+            }
+            State next = load();
+            synchronized (this) {
+                for (CatalogItem[] c : changesDuringRefresh) applyTo(next, c[0], c[1]);
+                state = next;
+            }
+        } catch (Exception e) {
+            log.warn("[CATALOG_SNAPSHOT] refresh failed, keep serving stale snapshot: {}", e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                changesDuringRefresh = null;
+            }
+            refreshing.set(false);
+        }
+    }
+
+    private boolean isExpired(State s) {
+        return System.currentTimeMillis() - s.loadedAtMs() > catalogTtlSec * 1000L;
+    }
+
+    private State load() {
+        long startedAt = System.currentTimeMillis();
+
+        // seasons 는 (id, season) 한 번에 모아 비트마스크로 (엔티티별 LAZY 로딩 N+1 방지)
+        Map<Long, Byte> seasonMasks = new HashMap<>();
+        for (Object[] row : clothingItemRepository.findAllSeasonPairs()) {
+            Long id = (Long) row[0];
+            int bit = 1 << ((SeasonType) row[1]).ordinal();
+            seasonMasks.merge(id, (byte) bit, (a, b) -> (byte) (a | b));
+        }
+
+        List<CatalogItem> items = clothingItemRepository.findAll().stream()
+                .map(e -> CatalogItem.from(e, seasonMasks.getOrDefault(e.getId(), (byte) 0)))
+                .toList();
+
+        Map<Long, CatalogItem> byClothingId = new ConcurrentHashMap<>(items.size() * 2);
+        Map<Long, CatalogItem> byId = new ConcurrentHashMap<>(items.size() * 2);
+        for (CatalogItem it : items) {
+            byClothingId.put(it.clothingId(), it);
+            if (it.id() != null) byId.put(it.id(), it);
+        }
+        ItemFeatureStore features = ItemFeatureStore.build(items);
+        ComfortCandidateMatrix matrix = ComfortCandidateMatrix.build(items);
+
+        log.info("[CATALOG_SNAPSHOT] loaded items={}, elapsedMs={}",
+                items.size(), System.currentTimeMillis() - startedAt);
+
+        return new State(byClothingId, byId, features, matrix, System.currentTimeMillis());
+    }
+
+    private record State(
+            Map<Long, CatalogItem> byClothingId,
+            Map<Long, CatalogItem> byId,
+            ItemFeatureStore features,
+            ComfortCandidateMatrix matrix,
+            long loadedAtMs
+    ) {}
+}
@@ -27,6 +27,7 @@ public class ClothingItemService {
     private static final int MAX_LIMIT = 50;
 
     private final ClothingItemRepository clothingItemRepository;
+    private final ClothingCatalogSnapshot catalogSnapshot;
 
     // ==============================
     // Create: POST /api/clothes
@@ -56,6 +57,7 @@ public class ClothingItemService {
                 .build();
 
         ClothingItem saved = clothingItemRepository.save(entity);
+        catalogSnapshot.onChanged(null, CatalogItem.from(saved));
         return ClothingItemResponseDto.from(saved);
     }
 
@@ -80,6 +82,8 @@ public class ClothingItemService {
         ClothingItem e = clothingItemRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("ClothingItem을 찾을 수 없습니다. id=" + id));
 
+        CatalogItem before = CatalogItem.from(e);
+
         // 엔티티 메서드는 null이면 유지(PATCH) 전제로 구현되어 있어야 함
         e.updateCore(req.getName(), req.getCategory(), req.getThicknessLevel(), req.getUsageType());
         e.updateTempRange(req.getSuitableMinTemp(), req.getSuitableMaxTemp());
@@ -91,6 +95,7 @@ public class ClothingItemService {
             e.replaceSeasons(req.getSeasons());
         }
 
+        catalogSnapshot.onChanged(before, CatalogItem.from(e));
         return ClothingItemResponseDto.from(e);
     }
 
@@ -98,10 +103,12 @@ public class ClothingItemService {
     // Delete: DELETE /api/clothes/{id}
     // ==============================
     public void delete(Long id) {
-        if (!clothingItemRepository.existsById(id)) {
-            throw new EntityNotFoundException("삭제할 옷을 찾을 수 없습니다. id=" + id);
-        }
-        clothingItemRepository.deleteById(id);
+        ClothingItem e = clothingItemRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("삭제할 옷을 찾을 수 없습니다. id=" + id));
+
+        CatalogItem before = CatalogItem.from(e);
+        clothingItemRepository.delete(e);
+        catalogSnapshot.onChanged(before, null);
     }
 
     // ==============================
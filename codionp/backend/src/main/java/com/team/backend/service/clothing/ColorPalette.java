@@ -0,0 +1,63 @@
+// src/main/java/com/team/backend/service/clothing/ColorPalette.java
+package com.team.backend.service.clothing;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * clothing_item.color 정규화 / 색 계열
+ * - 한글/영문 표기를 하나의 영문 소문자 이름으로 모은다 ("블랙", "Black" → "black")
+ * - 코디 궁합(OutfitComposer), 다양성 재정렬(DiversityReranker)이 같은 기준을 쓰도록 한 곳에 둔다
+ */
+public final class ColorPalette {
+
+    public enum Family { NEUTRAL, WARM, COOL, EARTH, OTHER }
+
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("블랙", "black"), Map.entry("검정", "black"), Map.entry("검정색", "black"),
+            Map.entry("화이트", "white"), Map.entry("흰색", "white"),
+            Map.entry("그레이", "gray"), Map.entry("회색", "gray"), Map.entry("grey", "gray"),
+            Map.entry("네이비", "navy"), Map.entry("남색", "navy"),
+            Map.entry("베이지", "beige"), Map.entry("아이보리", "ivory"),
+            Map.entry("데님", "denim"), Map.entry("청", "denim"),
+            Map.entry("레드", "red"), Map.entry("빨강", "red"),
+            Map.entry("오렌지", "orange"), Map.entry("주황", "orange"),
+            Map.entry("옐로우", "yellow"), Map.entry("노랑", "yellow"),
+            Map.entry("핑크", "pink"), Map.entry("분홍", "pink"),
+            Map.entry("블루", "blue"), Map.entry("파랑", "blue"), Map.entry("하늘", "skyblue"),
+            Map.entry("그린", "green"), Map.entry("초록", "green"),
+            Map.entry("퍼플", "purple"), Map.entry("보라", "purple"),
+            Map.entry("브라운", "brown"), Map.entry("갈색", "brown"),
+            Map.entry("카키", "khaki"), Map.entry("올리브", "olive")
+    );
+
+    private static final Set<String> NEUTRAL = Set.of("black", "white", "gray", "navy", "beige", "ivory", "denim");
+    private static final Set<String> WARM = Set.of("red", "orange", "yellow", "pink", "coral", "wine");
+    private static final Set<String> COOL = Set.of("blue", "skyblue", "green", "purple", "mint");
+    private static final Set<String> EARTH = Set.of("brown", "khaki", "olive", "camel");
+
+    private ColorPalette() {}
+
+    /**
+     * @return 정규화된 색 이름, 비어 있으면 null
+     */
+    public static String canonical(String color) {
+        if (color == null || color.isBlank()) return null;
+        String c = color.trim().toLowerCase(Locale.ROOT);
+        return ALIASES.getOrDefault(c, c);
+    }
+
+    public static Family family(String canonical) {
+        if (canonical == null) return Family.OTHER;
+        if (NEUTRAL.contains(canonical)) return Family.NEUTRAL;
+        if (WARM.contains(canonical)) return Family.WARM;
+        if (COOL.contains(canonical)) return Family.COOL;
+        if (EARTH.contains(canonical)) return Family.EARTH;
+        return Family.OTHER;
+    }
+
+    public static boolean isNeutral(String canonical) {
+        return canonical != null && NEUTRAL.contains(canonical);
+    }
+}
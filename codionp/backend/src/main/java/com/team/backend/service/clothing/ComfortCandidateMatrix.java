@@ -0,0 +1,125 @@
+// src/main/java/com/team/backend/service/clothing/ComfortCandidateMatrix.java
+package com.team.backend.service.clothing;
+
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.domain.enums.ComfortZone;
+import com.team.backend.domain.enums.UsageType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * ComfortZone × ClothingCategory × UsageType 후보 행렬
+ * - 셀마다 ComfortZone.matches 가 true 인 clothingId 를 오름차순 long[] 로 보관
+ * - 후보 조회 = 배열 읽기 (스캔/DB 없음)
+ * - 셀은 copy-on-write: 변경 시 새 배열을 만들어 CAS 로 교체 → 읽기는 락 없이 항상 일관된 배열을 본다
+ * - 아이템 변경 시 그 아이템이 속했던/속할 셀만 다시 만든다
+ */
+public class ComfortCandidateMatrix {
+
+    private static final ComfortZone[] ZONES = ComfortZone.values();
+    private static final ClothingCategory[] CATEGORIES = ClothingCategory.values();
+    private static final UsageType[] USAGES = UsageType.values();
+
+    private static final long[] EMPTY = new long[0];
+
+    private final AtomicReferenceArray<long[]> cells =
+            new AtomicReferenceArray<>(ZONES.length * CATEGORIES.length * USAGES.length);
+
+    private ComfortCandidateMatrix() {
+        for (int i = 0; i < cells.length(); i++) cells.set(i, EMPTY);
+    }
+
+    /**
+     * 전체 카탈로그로 한 번에 구성 (스냅샷 재적재 시)
+     */
+    public static ComfortCandidateMatrix build(Collection<CatalogItem> items) {
+        ComfortCandidateMatrix m = new ComfortCandidateMatrix();
+
+        List<List<Long>> buckets = new ArrayList<>(m.cells.length());
+        for (int i = 0; i < m.cells.length(); i++) buckets.add(new ArrayList<>());
+
+        for (CatalogItem it : items) {
+            if (it.clothingId() == null || it.category() == null || it.usageType() == null) continue;
+            for (ComfortZone z : ZONES) {
+                if (it.matches(z)) buckets.get(index(z, it.category(), it.usageType())).add(it.clothingId());
+            }
+        }
+
+        for (int i = 0; i < buckets.size(); i++) {
+            List<Long> b = buckets.get(i);
+            if (b.isEmpty()) continue;
+            long[] arr = new long[b.size()];
+            for (int j = 0; j < arr.length; j++) arr[j] = b.get(j);
+            Arrays.sort(arr);
+            m.cells.set(i, arr);
+        }
+        return m;
+    }
+
+    /**
+     * 셀 배열 (읽기 전용으로 취급할 것 - 수정 금지)
+     */
+    public long[] cell(ComfortZone zone, ClothingCategory category, UsageType usage) {
+        return cells.get(index(zone, category, usage));
+    }
+
+    /**
+     * 아이템 생성/수정/삭제 반영
+     * - before: 변경 전(생성이면 null), after: 변경 후(삭제면 null)
+     * - 두 상태 모두 같은 셀에 속하면 그 셀은 건드리지 않는다
+     */
+    public void apply(CatalogItem before, CatalogItem after) {
+        for (ComfortZone z : ZONES) {
+            int from = cellOf(before, z);
+            int to = cellOf(after, z);
+
+            // clothingId(비즈니스 키)는 수정되지 않으므로 같은 셀이면 no-op
+            if (from == to) continue;
+            if (from >= 0) remove(from, before.clothingId());
+            if (to >= 0) add(to, after.clothingId());
+        }
+    }
+
+    private int cellOf(CatalogItem it, ComfortZone zone) {
+        if (it == null || it.clothingId() == null || it.category() == null || it.usageType() == null) return -1;
+        return it.matches(zone) ? index(zone, it.category(), it.usageType()) : -1;
+    }
+
+    private void add(int idx, long id) {
+        while (true) {
+            long[] cur = cells.get(idx);
+            int pos = Arrays.binarySearch(cur, id);
+            if (pos >= 0) return;
+
+            int ins = -pos - 1;
+            long[] next = new long[cur.length + 1];
+            System.arraycopy(cur, 0, next, 0, ins);
+            next[ins] = id;
+            System.arraycopy(cur, ins, next, ins + 1, cur.length - ins);
+
+            if (cells.compareAndSet(idx, cur, next)) return;
+        }
+    }
+
+    private void remove(int idx, long id) {
+        while (true) {
+            long[] cur = cells.get(idx);
+            int pos = Arrays.binarySearch(cur, id);
+            if (pos < 0) return;
+
+            long[] next = (cur.length == 1) ? EMPTY : new long[cur.length - 1];
+            System.arraycopy(cur, 0, next, 0, pos);
+            System.arraycopy(cur, pos + 1, next, pos, cur.length - pos - 1);
+
+            if (cells.compareAndSet(idx, cur, next)) return;
+        }
+    }
+
+    private static int index(ComfortZone zone, ClothingCategory category, UsageType usage) {
+        return (zone.ordinal() * CATEGORIES.length + category.ordinal()) * USAGES.length + usage.ordinal();
+    }
+}
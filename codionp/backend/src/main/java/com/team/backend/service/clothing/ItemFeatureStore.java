@@ -0,0 +1,224 @@
+// src/main/java/com/team/backend/service/clothing/ItemFeatureStore.java
+package com.team.backend.service.clothing;
+
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.domain.enums.ThicknessLevel;
+import com.team.backend.domain.enums.UsageType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카탈로그 컬럼형 특징 저장소 (점수 계산 / AI 요청 아이템 조립 전용)
+ * - 아이템 = 조밀한 ordinal, 속성 = 컬럼별 원시 배열 (객체/박싱/enum 참조 없이 배열 인덱스로 읽는다)
+ *   int: 적정 온도 min/max, 선택 수, 유사도 코드 / byte: category·thickness·usage 코드, 계절 비트마스크 / short: 소재 비율
+ * - 유사도 코드(ItemSimilarityMatrix.encode)는 행을 쓸 때 한 번만 계산 → 다양성 재정렬은 ordinal 로 읽기만
+ * - clothingId → ordinal 맵으로 찾는다 (없으면 -1)
+ * - 행은 append-only: 수정은 새 ordinal 에 쓰고 맵만 옮긴다, 삭제는 맵에서만 제거
+ *   → 한 번 공개된 행은 바뀌지 않으므로 읽기는 락 없이 항상 일관된 값을 본다 (빈 행은 스냅샷 재적재 때 정리)
+ * - 쓰기(append/remove)는 ClothingCatalogSnapshot 모니터 안에서만 호출
+ */
+public final class ItemFeatureStore {
+
+    // 값 없음 표시
+    public static final int NO_TEMP = Integer.MIN_VALUE;
+    public static final short NO_PERCENT = -1;
+    public static final byte NO_CODE = -1;
+
+    private static final ClothingCategory[] CATEGORIES = ClothingCategory.values();
+    private static final ThicknessLevel[] THICKNESS = ThicknessLevel.values();
+    private static final UsageType[] USAGES = UsageType.values();
+
+    private static final int MIN_CAPACITY = 64;
+
+    private final Map<Long, Integer> ordinalByClothingId;
+    // 색/스타일 사전은 저장소와 수명이 같다 (코드 컬럼과 항상 짝)
+    private final ItemSimilarityMatrix similarity = new ItemSimilarityMatrix();
+    private volatile Columns cols;
+    private int size; // 쓰기 쪽만 사용
+
+    private ItemFeatureStore(int capacity) {
+        this.ordinalByClothingId = new ConcurrentHashMap<>(Math.max(16, capacity * 2));
+        this.cols = new Columns(Math.max(MIN_CAPACITY, capacity));
+    }
+
+    /**
+     * 전체 카탈로그로 한 번에 구성 (스냅샷 재적재 시)
+     */
+    public static ItemFeatureStore build(Collection<CatalogItem> items) {
+        ItemFeatureStore s = new ItemFeatureStore(items.size());
+        for (CatalogItem it : items) s.append(it);
+        return s;
+    }
+
+    /**
+     * @return ordinal, 없으면 -1
+     */
+    public int ordinal(Long clothingId) {
+        if (clothingId == null) return -1;
+        Integer ord = ordinalByClothingId.get(clothingId);
+        return (ord == null) ? -1 : ord;
+    }
+
+    /**
+     * 살아있는 아이템 수
+     */
+    public int size() {
+        return ordinalByClothingId.size();
+    }
+
+    // =========================
+    // 컬럼 읽기 (ordinal 은 ordinal() 로 얻은 값만)
+    // =========================
+
+    public long clothingId(int ord) { return cols.clothingId[ord]; }
+
+    public String name(int ord) { return cols.name[ord]; }
+
+    public ClothingCategory category(int ord) { return decode(CATEGORIES, cols.category[ord]); }
+
+    public ThicknessLevel thicknessLevel(int ord) { return decode(THICKNESS, cols.thickness[ord]); }
+
+    public UsageType usageType(int ord) { return decode(USAGES, cols.usage[ord]); }
+
+    /**
+     * SeasonType ordinal 비트마스크 (CatalogItem.seasonMask 와 같은 인코딩)
+     */
+    public byte seasonMask(int ord) { return cols.seasonMask[ord]; }
+
+    /** NO_TEMP 면 값 없음 */
+    public int minTemp(int ord) { return cols.minTemp[ord]; }
+
+    /** NO_TEMP 면 값 없음 */
+    public int maxTemp(int ord) { return cols.maxTemp[ord]; }
+
+    /** NO_PERCENT 면 값 없음 */
+    public short cottonPercent(int ord) { return cols.cotton[ord]; }
+
+    /** NO_PERCENT 면 값 없음 */
+    public short polyesterPercent(int ord) { return cols.polyester[ord]; }
+
+    /** NO_PERCENT 면 값 없음 */
+    public short etcFiberPercent(int ord) { return cols.etcFiber[ord]; }
+
+    public int selectedCount(int ord) { return cols.selectedCount[ord]; }
+
+    /**
+     * ItemSimilarityMatrix 코드 (0 이면 누구와도 유사도 0) → similarity().similarity(a, b) 로 비교
+     */
+    public int similarityCode(int ord) { return cols.similarityCode[ord]; }
+
+    public ItemSimilarityMatrix similarity() { return similarity; }
+
+    // =========================
+    // 쓰기 (스냅샷 모니터 안에서만)
+    // =========================
+
+    /**
+     * 새 행 추가 후 clothingId 를 그 행으로 연결 (같은 clothingId 가 있으면 이전 행은 버려진다)
+     */
+    void append(CatalogItem it) {
+        if (it == null || it.clothingId() == null) return;
+
+        Columns c = cols;
+        if (size == c.clothingId.length) {
+            c = c.grow(size * 2);
+            cols = c;
+        }
+
+        int ord = size++;
+        c.clothingId[ord] = it.clothingId();
+        c.name[ord] = it.name();
+        c.category[ord] = encode(it.category());
+        c.thickness[ord] = encode(it.thicknessLevel());
+        c.usage[ord] = encode(it.usageType());
+        c.seasonMask[ord] = it.seasonMask();
+        c.minTemp[ord] = (it.suitableMinTemp() == null) ? NO_TEMP : it.suitableMinTemp();
+        c.maxTemp[ord] = (it.suitableMaxTemp() == null) ? NO_TEMP : it.suitableMaxTemp();
+        c.cotton[ord] = percent(it.cottonPercentage());
+        c.polyester[ord] = percent(it.polyesterPercentage());
+        c.etcFiber[ord] = percent(it.etcFiberPercentage());
+        c.selectedCount[ord] = it.selectedCount();
+        c.similarityCode[ord] = similarity.encode(it);
+
+        // 행을 다 쓴 뒤 공개 (ConcurrentHashMap put → get 사이 happens-before)
+        ordinalByClothingId.put(it.clothingId(), ord);
+    }
+
+    void remove(Long clothingId) {
+        if (clothingId != null) ordinalByClothingId.remove(clothingId);
+    }
+
+    private static byte encode(Enum<?> e) {
+        return (e == null) ? NO_CODE : (byte) e.ordinal();
+    }
+
+    private static <E> E decode(E[] values, byte code) {
+        return (code < 0) ? null : values[code];
+    }
+
+    private static short percent(Integer v) {
+        return (v == null) ? NO_PERCENT : (short) Math.max(0, Math.min(100, v));
+    }
+
+    /**
+     * 컬럼 배열 묶음 (용량이 차면 2배 복사본으로 교체)
+     */
+    private static final class Columns {
+        final long[] clothingId;
+        final String[] name;
+        final byte[] category;
+        final byte[] thickness;
+        final byte[] usage;
+        final byte[] seasonMask;
+        final int[] minTemp;
+        final int[] maxTemp;
+        final short[] cotton;
+        final short[] polyester;
+        final short[] etcFiber;
+        final int[] selectedCount;
+        final int[] similarityCode;
+
+        Columns(int capacity) {
+            this(new long[capacity], new String[capacity],
+                    new byte[capacity], new byte[capacity], new byte[capacity], new byte[capacity],
+                    new int[capacity], new int[capacity],
+                    new short[capacity], new short[capacity], new short[capacity],
+                    new int[capacity], new int[capacity]);
+        }
+
+        private Columns(long[] clothingId, String[] name,
+                        byte[] category, byte[] thickness, byte[] usage, byte[] seasonMask,
+                        int[] minTemp, int[] maxTemp,
+                        short[] cotton, short[] polyester, short[] etcFiber,
+                        int[] selectedCount, int[] similarityCode) {
+            this.clothingId = clothingId;
+            this.name = name;
+            this.category = category;
+            this.thickness = thickness;
+            this.usage = usage;
+            this.seasonMask = seasonMask;
+            this.minTemp = minTemp;
+            this.maxTemp = maxTemp;
+            this.cotton = cotton;
+            this.polyester = polyester;
+            this.etcFiber = etcFiber;
+            this.selectedCount = selectedCount;
+            this.similarityCode = similarityCode;
+        }
+
+        Columns grow(int capacity) {
+            return new Columns(
+                    Arrays.copyOf(clothingId, capacity), Arrays.copyOf(name, capacity),
+                    Arrays.copyOf(category, capacity), Arrays.copyOf(thickness, capacity),
+                    Arrays.copyOf(usage, capacity), Arrays.copyOf(seasonMask, capacity),
+                    Arrays.copyOf(minTemp, capacity), Arrays.copyOf(maxTemp, capacity),
+                    Arrays.copyOf(cotton, capacity), Arrays.copyOf(polyester, capacity),
+                    Arrays.copyOf(etcFiber, capacity),
+                    Arrays.copyOf(selectedCount, capacity), Arrays.copyOf(similarityCode, capacity)
+            );
+        }
+    }
+}
@@ -0,0 +1,158 @@
+// src/main/java/com/team/backend/service/clothing/ItemSimilarityMatrix.java
+package com.team.backend.service.clothing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아이템 간 유사도 (category / color / styleTag)
+ * - 아이템은 int 하나로 인코딩: category(3bit) | colorId(14bit) | styleId(15bit)
+ * - 색 × 색 유사도는 미리 계산한 byte 행렬(0~100)에서 읽는다 (새 색이 들어오면 2배로 키워 재계산)
+ * - sim(a, b) = W_CATEGORY·[카테고리 같음] + W_COLOR·colorSim + W_STYLE·[스타일 같음], 0~1
+ * - 인코딩은 카탈로그 적재 시 ItemFeatureStore 가 한 번만 한다 (요청 경로는 코드 컬럼 + similarity 만)
+ */
+public class ItemSimilarityMatrix {
+
+    static final double W_CATEGORY = 0.4;
+    static final double W_COLOR = 0.35;
+    static final double W_STYLE = 0.25;
+
+    // 색 유사도 (0~100)
+    static final byte SAME_COLOR = 100;
+    static final byte SAME_FAMILY = 50;   // 예: red/orange, blue/green
+    static final byte BOTH_NEUTRAL = 60;  // 무채색끼리는 멀리서 보면 비슷하다
+
+    private static final int NONE = 0; // 색/스타일 없음
+    private static final int CATEGORY_BITS = 3;
+    private static final int COLOR_BITS = 14;
+    private static final int COLOR_MASK = (1 << COLOR_BITS) - 1;
+    private static final int STYLE_MAX = (1 << 15) - 1;
+    private static final int INITIAL_COLORS = 64;
+    // 색 행렬 상한 1024 × 1024 = 1MB (그 이상 색은 유사도 계산에서 제외)
+    private static final int MAX_COLORS = 1024;
+
+    private final Map<String, Integer> colorIds = new ConcurrentHashMap<>();
+    private final Map<String, Integer> styleIds = new ConcurrentHashMap<>();
+    private final AtomicInteger styleSeq = new AtomicInteger();
+
+    // colorId → 정규화된 색 이름 (id 0 = 없음)
+    private final List<String> colorNames = new ArrayList<>(List.of(""));
+
+    private volatile ColorTable colorTable = ColorTable.build(List.of(""), INITIAL_COLORS);
+
+    /**
+     * 아이템 특징 코드 (null 이면 0 → 누구와도 유사도 0)
+     */
+    public int encode(CatalogItem it) {
+        if (it == null || it.category() == null) return 0;
+
+        int category = it.category().ordinal() + 1;
+        int color = colorId(ColorPalette.canonical(it.color()));
+        int style = styleId(it.styleTag());
+        return category | (color << CATEGORY_BITS) | (style << (CATEGORY_BITS + COLOR_BITS));
+    }
+
+    public double similarity(int a, int b) {
+        if (a == 0 || b == 0) return 0.0;
+
+        double sim = 0.0;
+        if (category(a) == category(b)) sim += W_CATEGORY;
+
+        int ca = color(a), cb = color(b);
+        if (ca != NONE && cb != NONE) {
+            sim += W_COLOR * colorTable.get(ca, cb) / 100.0;
+        }
+
+        int sa = style(a);
+        if (sa != NONE && sa == style(b)) sim += W_STYLE;
+        return sim;
+    }
+
+    private static int category(int code) { return code & ((1 << CATEGORY_BITS) - 1); }
+    private static int color(int code) { return (code >>> CATEGORY_BITS) & COLOR_MASK; }
+    private static int style(int code) { return code >>> (CATEGORY_BITS + COLOR_BITS); }
+
+    private int colorId(String canonical) {
+        if (canonical == null) return NONE;
+        Integer id = colorIds.get(canonical);
+        return (id != null) ? id : registerColor(canonical);
+    }
+
+    private synchronized int registerColor(String canonical) {
+        Integer id = colorIds.get(canonical);
+        if (id != null) return id;
+        if (colorNames.size() >= MAX_COLORS) return NONE;
+
+        int next = colorNames.size();
+        colorNames.add(canonical);
+
+        // 행렬을 먼저 키운 뒤 id 공개 → 읽는 쪽은 항상 자기 id 가 들어있는 행렬을 본다
+        ColorTable t = colorTable;
+        colorTable = (next < t.dim) ? t.with(next, colorNames) : ColorTable.build(colorNames, t.dim * 2);
+        colorIds.put(canonical, next);
+        return next;
+    }
+
+    private int styleId(String styleTag) {
+        if (styleTag == null || styleTag.isBlank()) return NONE;
+        String key = styleTag.trim().toLowerCase(Locale.ROOT);
+        return styleIds.computeIfAbsent(key, k -> {
+            int id = styleSeq.incrementAndGet();
+            return (id <= STYLE_MAX) ? id : NONE;
+        });
+    }
+
+    /**
+     * dim × dim 색 유사도 (불변, 교체 방식)
+     */
+    private static final class ColorTable {
+        final int dim;
+        final byte[] sim;
+
+        private ColorTable(int dim, byte[] sim) {
+            this.dim = dim;
+            this.sim = sim;
+        }
+
+        static ColorTable build(List<String> names, int dim) {
+            byte[] sim = new byte[dim * dim];
+            for (int i = 1; i < names.size(); i++) {
+                for (int j = 1; j <= i; j++) {
+                    byte v = colorSimilarity(names.get(i), names.get(j));
+                    sim[i * dim + j] = v;
+                    sim[j * dim + i] = v;
+                }
+            }
+            return new ColorTable(dim, sim);
+        }
+
+        // 새 색 1개의 행/열만 채운 복사본
+        ColorTable with(int id, List<String> names) {
+            byte[] next = sim.clone();
+            for (int j = 1; j <= id; j++) {
+                byte v = colorSimilarity(names.get(id), names.get(j));
+                next[id * dim + j] = v;
+                next[j * dim + id] = v;
+            }
+            return new ColorTable(dim, next);
+        }
+
+        byte get(int a, int b) {
+            return sim[a * dim + b];
+        }
+    }
+
+    static byte colorSimilarity(String a, String b) {
+        if (a.equals(b)) return SAME_COLOR;
+
+        ColorPalette.Family fa = ColorPalette.family(a);
+        ColorPalette.Family fb = ColorPalette.family(b);
+        if (fa == ColorPalette.Family.NEUTRAL && fb == ColorPalette.Family.NEUTRAL) return BOTH_NEUTRAL;
+        if (fa == fb && fa != ColorPalette.Family.OTHER) return SAME_FAMILY;
+        return 0;
+    }
+}
@@ -0,0 +1,110 @@
+// src/main/java/com/team/backend/service/recommendation/CandidatePoolBuilder.java
+package com.team.backend.service.recommendation;
+
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.domain.enums.ComfortZone;
+import com.team.backend.domain.enums.UsageType;
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.clothing.ClothingCatalogSnapshot;
+import com.team.backend.service.clothing.ComfortCandidateMatrix;
+import com.team.backend.service.clothing.ItemFeatureStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 추천 후보군(candidate pool) 생성
+ * - 카탈로그 스냅샷의 ComfortZone 후보 행렬에서 1차 후보를 배열로 읽는다
+ * - 값싼 정적 점수로 pre-rank 후 limit 만큼 자른다 (점수는 컬럼형 특징 저장소에서 읽고, 잘린 후보만 CatalogItem 으로 꺼낸다)
+ * - AI(/recommend) 요청 아이템 조립도 특징 저장소에서 읽는다
+ */
+@Component
+@RequiredArgsConstructor
+public class CandidatePoolBuilder {
+
+    // 인기(선택 수)는 log 스케일로만 반영 (온도 적합도가 우선)
+    private static final double POPULARITY_WEIGHT = 1.0;
+    // 적정 온도가 비어 있는 옷은 존 중앙과 이 정도 떨어진 것으로 취급
+    private static final double UNKNOWN_TEMP_DISTANCE = 10.0;
+
+    private final ClothingCatalogSnapshot catalogSnapshot;
+
+    public List<CatalogItem> build(double feelsLike, int limit) {
+        return build(feelsLike, limit, null);
+    }
+
+    /**
+     * @param category null 이면 전체 카테고리, 지정하면 그 카테고리 셀만 읽는다 (다른 카테고리는 조회/점수 계산 없음)
+     */
+    public List<CatalogItem> build(double feelsLike, int limit, ClothingCategory category) {
+        if (limit <= 0) return List.of();
+
+        ComfortZone zone = ComfortZone.from(feelsLike);
+        ComfortCandidateMatrix matrix = catalogSnapshot.matrix();
+        ItemFeatureStore features = catalogSnapshot.features();
+        ClothingCategory[] categories = (category == null) ? ClothingCategory.values() : new ClothingCategory[]{category};
+
+        // 행렬 셀(이미 ComfortZone.matches 통과한 id)만 읽는다
+        List<Scored> survivors = new ArrayList<>();
+        for (ClothingCategory c : categories) {
+            for (UsageType usage : UsageType.values()) {
+                for (long clothingId : matrix.cell(zone, c, usage)) {
+                    int ord = features.ordinal(clothingId);
+                    if (ord < 0) continue;
+                    survivors.add(new Scored(clothingId, staticScore(features, ord, feelsLike)));
+                }
+            }
+        }
+
+        // 점수 desc, 동점이면 clothingId asc (요청 간 순서 고정)
+        survivors.sort(Comparator.comparingDouble(Scored::score).reversed()
+                .thenComparingLong(Scored::clothingId));
+
+        int n = Math.min(limit, survivors.size());
+        List<CatalogItem> out = new ArrayList<>(n);
+        for (int i = 0; i < survivors.size() && out.size() < n; i++) {
+            catalogSnapshot.findByClothingId(survivors.get(i).clothingId()).ifPresent(out::add);
+        }
+        return out;
+    }
+
+    /**
+     * 후보 풀 → AI(/recommend) 요청 아이템 (스냅샷에서 빠진 아이템은 건너뜀)
+     */
+    public List<RecommendationAiDto.Item> toAiItems(List<CatalogItem> pool) {
+        ItemFeatureStore features = catalogSnapshot.features();
+        List<RecommendationAiDto.Item> out = new ArrayList<>(pool.size());
+        for (CatalogItem it : pool) {
+            int ord = features.ordinal(it.clothingId());
+            if (ord >= 0) out.add(toAiItem(features, ord));
+        }
+        return out;
+    }
+
+    public static RecommendationAiDto.Item toAiItem(ItemFeatureStore f, int ord) {
+        ClothingCategory category = f.category(ord);
+        return new RecommendationAiDto.Item(f.clothingId(ord), f.name(ord), category == null ? null : category.name());
+    }
+
+    /**
+     * 정적 점수 = -(체감온도와 적정 온도 중앙의 거리) + log(1 + 선택 수)
+     */
+    static double staticScore(ItemFeatureStore f, int ord, double feelsLike) {
+        int min = f.minTemp(ord);
+        int max = f.maxTemp(ord);
+
+        double distance;
+        if (min == ItemFeatureStore.NO_TEMP && max == ItemFeatureStore.NO_TEMP) distance = UNKNOWN_TEMP_DISTANCE;
+        else if (min == ItemFeatureStore.NO_TEMP) distance = Math.abs(max - feelsLike);
+        else if (max == ItemFeatureStore.NO_TEMP) distance = Math.abs(min - feelsLike);
+        else distance = Math.abs((min + max) / 2.0 - feelsLike);
+
+        return -distance + POPULARITY_WEIGHT * Math.log1p(Math.max(0, f.selectedCount(ord)));
+    }
+
+    private record Scored(long clothingId, double score) {}
+}
@@ -1,21 +1,42 @@
 package com.team.backend.service.recommendation;
 
+import com.team.backend.api.dto.recommendation.OutfitRecommendationResponseDto;
 import com.team.backend.api.dto.recommendation.RecommendationEventLogRequestDto;
+import com.team.backend.api.dto.recommendation.RecommendationStreamDto;
 import com.team.backend.domain.enums.recommendation.RecommendationEventType;
+import com.team.backend.config.AiUpstreamException;
+import com.team.backend.service.ai.AiUpstreamGuard;
 import com.team.backend.service.ai.RecommendationAiClient; // <- 실제 클래스명에 맞춰
 import com.team.backend.service.ai.dto.RecommendationAiDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 // 임시추가
 import com.team.backend.api.dto.weather.DailyWeatherResponseDto;
+import com.team.backend.common.concurrent.SingleFlight;
 import com.team.backend.domain.enums.ClothingCategory;
 import com.team.backend.service.weather.WeatherService;
 import com.team.backend.api.dto.clothingItem.ClothingItemResponseDto;
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.clothing.ClothingCatalogSnapshot;
+import com.team.backend.service.clothing.ItemFeatureStore;
+import com.team.backend.service.recommendation.affinity.AffinityBlender;
+import com.team.backend.service.recommendation.diversity.DiversityReranker;
+import com.team.backend.service.recommendation.outfit.Outfit;
+import com.team.backend.service.recommendation.outfit.OutfitComposer;
+import com.team.backend.service.recommendation.outfit.ScoredItem;
+import com.team.backend.service.recommendation.scoring.RecommendationScorer;
+import com.team.backend.service.recommendation.scoring.RecommendationScorers;
+import com.team.backend.service.recommendation.scoring.ScoringContext;
+import com.team.backend.service.recommendation.shadow.ShadowScorerRunner;
 import java.util.stream.Collectors;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -30,8 +51,50 @@ public class ClothingRecommendationService {
     // 임시추가
     private final WeatherService weatherService;
 
+    private final CandidatePoolBuilder candidatePoolBuilder;
+    private final ClothingCatalogSnapshot catalogSnapshot;
+    private final RecommendationResultCache recommendationResultCache;
+    private final RecommendationScorers recommendationScorers;
+    private final OutfitComposer outfitComposer;
+    private final DiversityReranker diversityReranker;
+    private final AffinityBlender affinityBlender;
+    private final ShadowScorerRunner shadowScorerRunner;
+    private final MaterializedRecommendationStore materializedRecommendationStore;
+    private final RecommendationAiFlights recommendationAiFlights;
+
+    @Value("${ai.recommend-budget-ms:150}")
+    private long recommendBudgetMs;
+
+    // 배치는 합친 후보가 커서 단건보다 넉넉하게
+    @Value("${ai.recommend-batch-budget-ms:2000}")
+    private long batchBudgetMs;
+
+    // 사전 계산은 이 후보 풀 크기로만 (컨트롤러 기본 limit 과 같을 때만 사용)
+    @Value("${codi.recommend.materialize.pool-size:50}")
+    private int materializePoolSize;
+
     public RecommendationAiDto.RecommendationResponse recommendByMaterialML(
             RecommendationAiDto.RecommendationRequest req
+    ) {
+        RecommendationAiDto.RecommendationResponse res = recommendByMaterialML(req, recommendBudgetMs, null, null);
+        res.recommendations = selectTopK(res.recommendations, null);
+        return res;
+    }
+
+    /**
+     * 응답 대기 예산(budgetMs) 안에 AI가 답하지 않으면 로컬 랭킹으로 즉시 응답
+     * - AI 호출은 비동기(recommendAsync)로 계속 진행 → 늦게 성공하면 lateResultSink 로 넘겨 다음 요청이 재사용
+     * - budgetMs <= 0 이면 예산 없이 호출 스레드에서 AI 응답까지 기다린다 (배치/사전계산 경로)
+     * - flightKey 가 같은 AI 호출이 이미 진행 중이면 새로 호출하지 않고 그 결과를 같은 예산으로 기다린다
+     *
+     * @param flightKey      진행 중 호출 합치기 키 (보통 결과 캐시 키, nullable 이면 합치지 않음)
+     * @param lateResultSink 예산 초과 후 도착한 정상 결과 수신자 (보통 결과 캐시 put, nullable, leader 만 호출)
+     */
+    RecommendationAiDto.RecommendationResponse recommendByMaterialML(
+            RecommendationAiDto.RecommendationRequest req,
+            long budgetMs,
+            RecommendationCacheKey flightKey,
+            Consumer<RecommendationAiDto.RecommendationResponse> lateResultSink
     ) {
         long startedAt = System.currentTimeMillis();
 
@@ -40,76 +103,185 @@ public class ClothingRecommendationService {
         if (req.weather == null) return fallbackEmpty("weather_null");
         if (req.items == null || req.items.isEmpty()) return fallbackEmpty("items_empty");
 
+        if (budgetMs <= 0) {
+            try {
+                return finishAiResponse(req, recommendationAiClient.recommend(req), startedAt);
+            } catch (Exception e) {
+                return onAiFailure(req, e, startedAt);
+            }
+        }
+
+        // 1) AI 호출 (별도 스레드, 같은 키가 진행 중이면 합류) + 예산만큼만 대기
+        SingleFlight.Flight<RecommendationAiDto.RecommendationResponse> flight =
+                recommendationAiFlights.join(flightKey, () -> recommendationAiClient.recommendAsync(req));
+        CompletableFuture<RecommendationAiDto.RecommendationResponse> future = flight.future();
+
         try {
-            // 1) AI 호출
-            RecommendationAiDto.RecommendationResponse res = recommendationAiClient.recommend(req);
+            RecommendationAiDto.RecommendationResponse res = future.get(budgetMs, TimeUnit.MILLISECONDS);
+            return finishAiResponse(req, res, startedAt);
 
-            if (res == null) {
-                logEvent(RecommendationEventType.RECO_ERROR, Map.of(
-                        "type", "MATERIAL_AI_NULL_RESPONSE",
-                        "latencyMs", System.currentTimeMillis() - startedAt
-                ));
-                return fallbackTopK(req, "ai_null_response");
+        } catch (TimeoutException e) {
+            // 오류가 아니라 이 요청의 결과 (로컬 랭킹으로 응답) → 요청당 RECO_GENERATED 1건
+            logEvent(RecommendationEventType.RECO_GENERATED, Map.of(
+                    "type", "MATERIAL_AI_DEADLINE_FALLBACK",
+                    "latencyMs", System.currentTimeMillis() - startedAt,
+                    "budgetMs", budgetMs
+            ));
+
+            // AI는 끝까지 돌게 두고, 늦게 온 정상 결과만 다음 호출자를 위해 넘긴다 (합류한 호출자는 leader 에게 맡김)
+            if (flight.leader()) {
+                future.whenComplete((late, ex) -> onLateAiResult(req, late, ex, startedAt, lateResultSink));
             }
+            return fallbackTopK(req, "ai_deadline");
 
-            List<RecommendationAiDto.Recommendation> recs =
-                    (res.recommendations == null) ? List.of() : res.recommendations;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallbackTopK(req, "ai_interrupted");
 
-            // 2) 응답 정리 (clothingId 필수, score NaN 방지)
-            List<RecommendationAiDto.Recommendation> cleaned = new ArrayList<>();
-            for (RecommendationAiDto.Recommendation r : recs) {
-                if (r == null) continue;
-                if (r.clothingId == null) continue;
-                if (r.score != null && !Double.isFinite(r.score)) continue;
-                cleaned.add(r);
-            }
+        } catch (ExecutionException e) {
+            Throwable cause = (e.getCause() == null) ? e : e.getCause();
+            return onAiFailure(req, (cause instanceof Exception ex) ? ex : e, startedAt);
+        }
+    }
+
+    private RecommendationAiDto.RecommendationResponse finishAiResponse(
+            RecommendationAiDto.RecommendationRequest req,
+            RecommendationAiDto.RecommendationResponse res,
+            long startedAt
+    ) {
+        if (res == null) {
+            logEvent(RecommendationEventType.RECO_ERROR, Map.of(
+                    "type", "MATERIAL_AI_NULL_RESPONSE",
+                    "latencyMs", System.currentTimeMillis() - startedAt
+            ));
+            return fallbackTopK(req, "ai_null_response");
+        }
 
-            // score desc, null은 뒤로
-            cleaned.sort((a, b) -> {
-                Double sa = a.score;
-                Double sb = b.score;
-                if (sa == null && sb == null) return 0;
-                if (sa == null) return 1;
-                if (sb == null) return -1;
-                return Double.compare(sb, sa);
-            });
+        List<RecommendationAiDto.Recommendation> recs =
+                (res.recommendations == null) ? List.of() : res.recommendations;
 
-            List<RecommendationAiDto.Recommendation> top =
-                    cleaned.subList(0, Math.min(TOP_K, cleaned.size()));
+        // 2) 응답 정리 (clothingId 필수, score NaN 방지) + score desc 후보 (최종 Top-K 는 응답 직전 selectTopK)
+        List<RecommendationAiDto.Recommendation> top = rankCandidates(recs);
+        res.recommendations = top;
 
-            res.recommendations = top;
+        logEvent(RecommendationEventType.RECO_GENERATED, Map.of(
+                "type", "MATERIAL_AI_RECOMMEND",
+                "latencyMs", System.currentTimeMillis() - startedAt,
+                "reqItemCount", req.items.size(),
+                "aiRecCount", recs.size(),
+                "pickedCount", top.size()
+        ));
 
-            logEvent(RecommendationEventType.RECO_GENERATED, new LinkedHashMap<String, Object>() {{
-                put("type", "MATERIAL_AI_RECOMMEND");
-                put("latencyMs", System.currentTimeMillis() - startedAt);
-                put("reqItemCount", req.items.size());
-                put("aiRecCount", recs.size());
-                put("pickedCount", top.size());
-            }});
+        if (top.isEmpty()) return fallbackTopK(req, "ai_empty");
 
-            if (top.isEmpty()) return fallbackTopK(req, "ai_empty");
+        // 섀도 점수기 비교 (샘플링 + 제출만, 응답 지연 없음)
+        shadowScorerRunner.submit(req, top, TOP_K, System.currentTimeMillis() - startedAt);
+        return res;
+    }
 
-            return res;
+    // 점수 상위 후보 (캐시/사전 계산에는 이 목록을 저장 → 사용자별 최종 선택을 요청 시점에)
+    private List<RecommendationAiDto.Recommendation> rankCandidates(List<RecommendationAiDto.Recommendation> recs) {
+        return RecommendationRanker.topK(recs, diversityReranker.candidateCount(TOP_K));
+    }
 
-        } catch (Exception e) {
-            log.warn("[MATERIAL_AI_FAIL] {}", e.getMessage(), e);
+    // 후보 → 사용자 취향 블렌딩(userId 있을 때) → 다양성 재정렬(MMR)로 최종 TOP_K
+    private List<RecommendationAiDto.Recommendation> selectTopK(List<RecommendationAiDto.Recommendation> ranked, Long userId) {
+        if (ranked == null || ranked.isEmpty()) return List.of();
+        AffinityBlender.Blended blended = affinityBlender.blend(ranked, userId);
+        return diversityReranker.rerank(blended.ranked(), blended.relevance(), TOP_K);
+    }
+
+    private RecommendationAiDto.RecommendationResponse onAiFailure(
+            RecommendationAiDto.RecommendationRequest req,
+            Exception e,
+            long startedAt
+    ) {
+        // 응답 후처리 콜백을 aiCallExecutor 가 받지 못한 경우 (풀 포화)
+        if (e instanceof RejectedExecutionException) {
+            logEvent(RecommendationEventType.RECO_ERROR, Map.of(
+                    "type", "MATERIAL_AI_REJECTED",
+                    "latencyMs", System.currentTimeMillis() - startedAt
+            ));
+            return fallbackTopK(req, "ai_rejected");
+        }
 
+        // 서킷 열림/동시 실행 상한 초과 → 호출 없이 바로 로컬 (스택트레이스 로그 없이)
+        if (isShed(e)) {
             logEvent(RecommendationEventType.RECO_ERROR, Map.of(
-                    "type", "MATERIAL_AI_EXCEPTION",
+                    "type", "MATERIAL_AI_SHED",
                     "latencyMs", System.currentTimeMillis() - startedAt,
-                    "errorType", e.getClass().getSimpleName(),
                     "message", safeMsg(e)
             ));
+            return fallbackTopK(req, "ai_shed");
+        }
+
+        log.warn("[MATERIAL_AI_FAIL] {}", e.getMessage(), e);
+
+        logEvent(RecommendationEventType.RECO_ERROR, Map.of(
+                "type", "MATERIAL_AI_EXCEPTION",
+                "latencyMs", System.currentTimeMillis() - startedAt,
+                "errorType", e.getClass().getSimpleName(),
+                "message", safeMsg(e)
+        ));
+
+        return fallbackTopK(req, "ai_exception");
+    }
+
+    private static boolean isShed(Throwable e) {
+        return e instanceof AiUpstreamException u && AiUpstreamGuard.SHED_CODE.equals(u.getCode());
+    }
+
+    // 예산 초과 후 도착한 AI 결과: 사용자 응답은 이미 나갔으므로 로그 + sink 만
+    private void onLateAiResult(
+            RecommendationAiDto.RecommendationRequest req,
+            RecommendationAiDto.RecommendationResponse res,
+            Throwable ex,
+            long startedAt,
+            Consumer<RecommendationAiDto.RecommendationResponse> lateResultSink
+    ) {
+        long latencyMs = System.currentTimeMillis() - startedAt;
 
-            return fallbackTopK(req, "ai_exception");
+        if (ex != null || res == null) {
+            Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+            log.debug("[MATERIAL_AI_LATE_FAIL] latencyMs={}, error={}", latencyMs,
+                    cause == null ? "null_response" : cause.getMessage());
+            return;
+        }
+
+        List<RecommendationAiDto.Recommendation> top =
+                rankCandidates(res.recommendations == null ? List.of() : res.recommendations);
+        if (top.isEmpty()) return;
+        res.recommendations = top;
+
+        // 요청은 이미 응답함 → 퍼널에 세지 않는 시스템 이벤트로
+        logEvent(RecommendationEventType.RECO_AI_LATE, Map.of(
+                "type", "MATERIAL_AI_LATE",
+                "latencyMs", latencyMs,
+                "reqItemCount", req.items.size(),
+                "pickedCount", top.size()
+        ));
+
+        if (lateResultSink == null) return;
+        try {
+            lateResultSink.accept(res);
+        } catch (Exception e) {
+            log.debug("[MATERIAL_AI_LATE_SINK_FAIL] {}", e.getMessage());
         }
     }
 
+    /**
+     * AI 실패/빈 응답 시 로컬 점수기로 실제 랭킹을 만든다
+     * - 카탈로그 스냅샷에 있는 후보만 점수 계산 (없는 id는 점수 없이 뒤로)
+     */
     private RecommendationAiDto.RecommendationResponse fallbackTopK(
             RecommendationAiDto.RecommendationRequest req,
             String reason
     ) {
-        List<RecommendationAiDto.Recommendation> out = new ArrayList<>();
+        RecommendationScorer scorer = recommendationScorers.fallback();
+        ScoringContext ctx = ScoringContext.from(req.weather);
+        ItemFeatureStore features = catalogSnapshot.features();
+
+        List<RecommendationAiDto.Recommendation> candidates = new ArrayList<>(req.items.size());
 
         for (RecommendationAiDto.Item it : req.items) {
             if (it == null) continue;
@@ -118,13 +290,16 @@ public class ClothingRecommendationService {
             RecommendationAiDto.Recommendation r = new RecommendationAiDto.Recommendation();
             r.clothingId = it.clothingId;
             r.name = (it.name == null || it.name.isBlank()) ? "unknown" : it.name;
-            r.score = null;
-            r.analysis = "fallback: " + reason;
-            out.add(r);
+            r.analysis = "fallback(" + scorer.name() + "): " + reason;
 
-            if (out.size() >= TOP_K) break;
+            // 스냅샷에 없는 id 는 score null → Top-K 에서 점수 있는 후보 뒤로
+            int ord = features.ordinal(it.clothingId);
+            r.score = (ord < 0) ? null : scorer.score(features, ord, ctx);
+            candidates.add(r);
         }
 
+        List<RecommendationAiDto.Recommendation> out = rankCandidates(candidates);
+
         RecommendationAiDto.RecommendationResponse res = new RecommendationAiDto.RecommendationResponse();
         res.status = "fallback";
         res.message = reason;
@@ -160,12 +335,77 @@ public class ClothingRecommendationService {
     // [임시추가] Controller와의 연결을 위한 메서드
     // ==========================================
     public List<ClothingItemResponseDto> recommendToday(String region, double lat, double lon, int resolved) {
-        log.info("Request recommendToday: region={}, lat={}, lon={}, resolved={}", region, lat, lon, resolved);
+        return recommendToday(region, lat, lon, resolved, null, null);
+    }
+
+    /**
+     * @param userId 있으면 클릭 기반 취향(UserAffinityStore)을 섞어 최종 Top-K 선택 (nullable)
+     */
+    public List<ClothingItemResponseDto> recommendToday(String region, double lat, double lon, int resolved, Long userId) {
+        return recommendToday(region, lat, lon, resolved, null, userId);
+    }
+
+    /**
+     * 카테고리별 추천
+     * - 후보 행렬의 해당 카테고리 셀만 읽어 후보 풀을 만든다 → pre-rank/AI 요청/캐시 모두 그 카테고리 크기
+     */
+    public List<ClothingItemResponseDto> recommendTodayByCategory(ClothingCategory category, String region, double lat, double lon, int resolved) {
+        return recommendTodayByCategory(category, region, lat, lon, resolved, null);
+    }
+
+    public List<ClothingItemResponseDto> recommendTodayByCategory(ClothingCategory category, String region, double lat, double lon, int resolved, Long userId) {
+        if (category == null) throw new IllegalArgumentException("category는 필수입니다.");
+        return recommendToday(region, lat, lon, resolved, category, userId);
+    }
+
+    /**
+     * @param category null 이면 전체 카테고리
+     * @param userId   null 이면 비개인화
+     */
+    private List<ClothingItemResponseDto> recommendToday(String region, double lat, double lon, int resolved, ClothingCategory category, Long userId) {
+        log.info("Request recommendToday: region={}, lat={}, lon={}, resolved={}, category={}, userId={}", region, lat, lon, resolved, category, userId);
+
+        // 0. 사전 계산 결과가 있으면 그대로 (날씨 조회/AI 호출 없음)
+        if (resolved == materializePoolSize) {
+            RecommendationAiDto.RecommendationResponse materialized =
+                    materializedRecommendationStore.get(region, materializedRecommendationStore.today(), category);
+            if (materialized != null) return toDtos(materialized, userId);
+        }
 
         // 1-1. 날씨 조회
         DailyWeatherResponseDto weatherDto = weatherService.getTodaySmart(lat, lon, region);
 
         // 1-2. AI용 날씨 객체 생성 (WeatherData)
+        RecommendationAiDto.WeatherData aiWeather = toAiWeather(weatherDto);
+
+        // 1-3. 옷 목록 준비: 인메모리 카탈로그에서 ComfortZone(+카테고리) 필터 → pre-rank → resolved(후보 풀) 만큼
+        double feelsLike = (weatherDto == null) ? 0.0 : weatherDto.getFeelsLikeTemperature();
+        List<CatalogItem> pool = candidatePoolBuilder.build(feelsLike, resolved, category);
+
+        // 1-4. AI 요청 객체 조립
+        RecommendationAiDto.RecommendationRequest aiRequest = toAiRequest(aiWeather, pool);
+
+        // 1-5. AI 추천 실행 (내부 메서드 호출)
+        //  - 같은 region/날씨 버킷/후보군이면 결과 캐시 재사용 (새 예보가 들어오면 fetchedAt 으로 무효)
+        RecommendationCacheKey cacheKey = (weatherDto == null)
+                ? null
+                : RecommendationCacheKey.of(region, weatherDto, category, pool);
+        LocalDateTime fetchedAt = (weatherDto == null) ? null : weatherDto.getFetchedAt();
+
+        // [중요] aiResponse 변수 선언
+        RecommendationAiDto.RecommendationResponse aiResponse = recommendationResultCache.get(cacheKey, fetchedAt);
+        if (aiResponse == null) {
+            // 예산 초과로 로컬 랭킹이 나가면, 늦게 도착한 AI 결과는 캐시에 넣어 다음 호출자가 사용
+            aiResponse = recommendByMaterialML(aiRequest, recommendBudgetMs, cacheKey,
+                    late -> recommendationResultCache.put(cacheKey, fetchedAt, late));
+            recommendationResultCache.put(cacheKey, fetchedAt, aiResponse);
+        }
+
+        // 1-6. 결과 변환 (Recommendation -> ClothingItemResponseDto)
+        return toDtos(aiResponse, userId);
+    }
+
+    private RecommendationAiDto.WeatherData toAiWeather(DailyWeatherResponseDto weatherDto) {
         RecommendationAiDto.WeatherData aiWeather = new RecommendationAiDto.WeatherData();
         if (weatherDto != null) {
             aiWeather.temperature = weatherDto.getTemperature();
@@ -173,42 +413,444 @@ public class ClothingRecommendationService {
             aiWeather.humidity = weatherDto.getHumidity();
             aiWeather.precipitationProbability = weatherDto.getPrecipitationProbability();
         }
+        return aiWeather;
+    }
 
-        // 1-3. 옷 목록 준비 (현재는 빈 리스트 -> 추후 DB 연동 필요)
-        List<RecommendationAiDto.Item> itemsForAi = new ArrayList<>();
+    private RecommendationAiDto.RecommendationRequest toAiRequest(
+            RecommendationAiDto.WeatherData aiWeather,
+            List<CatalogItem> pool
+    ) {
+        List<RecommendationAiDto.Item> itemsForAi = candidatePoolBuilder.toAiItems(pool);
 
-        // 1-4. AI 요청 객체 조립
         RecommendationAiDto.RecommendationRequest aiRequest = new RecommendationAiDto.RecommendationRequest();
         aiRequest.weather = aiWeather;
         aiRequest.items = itemsForAi;
+        return aiRequest;
+    }
 
-        // 1-5. AI 추천 실행 (내부 메서드 호출)
-        // [중요] aiResponse 변수 선언
-        RecommendationAiDto.RecommendationResponse aiResponse = recommendByMaterialML(aiRequest);
-
-        // 1-6. 결과 변환 (Recommendation -> ClothingItemResponseDto)
+    // 캐시/사전 계산 응답은 공유 객체 → selectTopK 는 새 리스트만 만든다
+    private List<ClothingItemResponseDto> toDtos(RecommendationAiDto.RecommendationResponse aiResponse, Long userId) {
         if (aiResponse == null || aiResponse.recommendations == null) {
             return List.of();
         }
 
-        return aiResponse.recommendations.stream()
+        return selectTopK(aiResponse.recommendations, userId).stream()
                 .map(this::convertToDto) // 아래 convertToDto 메서드 사용
                 .collect(Collectors.toList());
     }
 
-    // 카테고리별 추천 (현재는 위와 동일하게 처리)
-    public List<ClothingItemResponseDto> recommendTodayByCategory(ClothingCategory category, String region, double lat, double lon, int resolved) {
-        return recommendToday(region, lat, lon, resolved);
+    // ==========================================
+    // 단계별 추천 (SSE)
+    // ==========================================
+
+    /**
+     * 오늘 추천을 단계별로 흘려보낸다 (첫 결과가 AI 지연과 무관)
+     * - 사전 계산/결과 캐시 hit: refined → complete 바로
+     * - miss: 로컬 점수기 랭킹을 local 로 즉시 → AI 는 비동기 호출로 예산 없이 끝까지
+     *   → 도착하면 refined(AI Top-K) + complete(analysis), 실패하면 complete(fallback) 만
+     * - 날씨/후보 풀까지는 호출 스레드에서, 이후 sink 호출은 AI 응답 스레드에서 일어날 수 있다
+     */
+    public void streamToday(String region, double lat, double lon, int resolved, Long userId, RecommendationStreamSink sink) {
+        long startedAt = System.currentTimeMillis();
+
+        if (resolved == materializePoolSize) {
+            RecommendationAiDto.RecommendationResponse materialized =
+                    materializedRecommendationStore.get(region, materializedRecommendationStore.today(), null);
+            if (materialized != null) {
+                completeWith(sink, "materialized", materialized, userId);
+                return;
+            }
+        }
+
+        DailyWeatherResponseDto weatherDto = weatherService.getTodaySmart(lat, lon, region);
+        double feelsLike = (weatherDto == null) ? 0.0 : weatherDto.getFeelsLikeTemperature();
+        List<CatalogItem> pool = candidatePoolBuilder.build(feelsLike, resolved, null);
+        RecommendationAiDto.RecommendationRequest aiRequest = toAiRequest(toAiWeather(weatherDto), pool);
+
+        RecommendationCacheKey cacheKey = (weatherDto == null) ? null : RecommendationCacheKey.of(region, weatherDto, null, pool);
+        LocalDateTime fetchedAt = (weatherDto == null) ? null : weatherDto.getFetchedAt();
+
+        RecommendationAiDto.RecommendationResponse cached = recommendationResultCache.get(cacheKey, fetchedAt);
+        if (cached != null) {
+            completeWith(sink, "cache", cached, userId);
+            return;
+        }
+        if (aiRequest.items.isEmpty()) {
+            sink.complete(finalOf("fallback", "items_empty", List.of()));
+            return;
+        }
+
+        // 1) 로컬 랭킹 즉시
+        RecommendationAiDto.RecommendationResponse local = fallbackTopK(aiRequest, "progressive_local");
+        sink.local(toDtos(local, userId));
+
+        // 2) AI 는 별도 스레드에서 끝까지 (같은 키가 진행 중이면 그 호출에 합류)
+        recommendationAiFlights
+                .join(cacheKey, () -> recommendationAiClient.recommendAsync(aiRequest))
+                .future()
+                .whenComplete((res, ex) -> {
+                    try {
+                        RecommendationAiDto.RecommendationResponse out = (ex == null)
+                                ? finishAiResponse(aiRequest, res, startedAt)
+                                : onAiFailure(aiRequest, unwrap(ex), startedAt);
+
+                        if ("fallback".equalsIgnoreCase(out.status)) {
+                            sink.complete(finalOf("fallback", out.message, selectTopK(local.recommendations, userId)));
+                            return;
+                        }
+                        recommendationResultCache.put(cacheKey, fetchedAt, out);
+                        completeWith(sink, "ai", out, userId);
+                    } catch (Exception e) {
+                        log.warn("[RECO_STREAM_FAIL] {}", e.getMessage());
+                        sink.complete(finalOf("fallback", "stream_error", List.of()));
+                    }
+                });
+    }
+
+    private void completeWith(RecommendationStreamSink sink, String source, RecommendationAiDto.RecommendationResponse res, Long userId) {
+        List<RecommendationAiDto.Recommendation> top = selectTopK(res.recommendations, userId);
+        sink.refined(top.stream().map(this::convertToDto).collect(Collectors.toList()));
+        sink.complete(finalOf(source, res.message, top));
+    }
+
+    private RecommendationStreamDto.Final finalOf(String source, String message, List<RecommendationAiDto.Recommendation> top) {
+        List<RecommendationStreamDto.Analysis> analyses = new ArrayList<>(top.size());
+        for (RecommendationAiDto.Recommendation r : top) {
+            analyses.add(RecommendationStreamDto.Analysis.builder()
+                    .clothingId(r.clothingId)
+                    .score(r.score)
+                    .analysis(r.analysis)
+                    .build());
+        }
+        return RecommendationStreamDto.Final.builder()
+                .source(source)
+                .message(message)
+                .analyses(analyses)
+                .build();
+    }
+
+    private static Exception unwrap(Throwable ex) {
+        Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+        return (cause instanceof Exception e) ? e : new IllegalStateException(cause);
+    }
+
+    // ==========================================
+    // 배치 추천 (파트너 연동)
+    // ==========================================
+
+    /**
+     * 여러 (region, lat, lon, category, limit) 요청을 한 번에 처리
+     * - 날씨 조회: region 당 1회
+     * - AI 호출: 결과 캐시 miss 인 요청들을 날씨 버킷별로 묶어 /recommend 1회 (후보 합집합)
+     *   → AI 는 아이템을 독립적으로 점수화하므로 합쳐 부른 뒤 요청별 후보로 다시 나눠도 결과가 같다
+     * - 버킷 호출들은 비동기로 동시에 나가고, 요청 스레드는 batchBudgetMs 까지만 기다린다
+     *   (늦은 버킷은 로컬 랭킹으로 응답하고, 도착한 AI 결과는 캐시에 넣는다)
+     *
+     * @return queries 와 같은 순서의 결과
+     */
+    public List<List<ClothingItemResponseDto>> recommendBatch(List<RecommendationBatchQuery> queries) {
+        long startedAt = System.currentTimeMillis();
+        if (queries == null || queries.isEmpty()) return List.of();
+
+        // 1) region 당 날씨 1회
+        Map<String, DailyWeatherResponseDto> weatherByRegion = new HashMap<>();
+        BatchEntry[] entries = new BatchEntry[queries.size()];
+
+        for (int i = 0; i < entries.length; i++) {
+            RecommendationBatchQuery q = queries.get(i);
+            String regionKey = RecommendationCacheKey.normalizeRegion(q.region());
+            DailyWeatherResponseDto weatherDto = weatherByRegion.computeIfAbsent(
+                    regionKey, r -> weatherService.getTodaySmart(q.lat(), q.lon(), q.region()));
+
+            double feelsLike = (weatherDto == null) ? 0.0 : weatherDto.getFeelsLikeTemperature();
+            List<CatalogItem> pool = candidatePoolBuilder.build(feelsLike, q.limit(), q.category());
+
+            entries[i] = new BatchEntry(
+                    toAiRequest(toAiWeather(weatherDto), pool),
+                    (weatherDto == null) ? null : RecommendationCacheKey.of(q.region(), weatherDto, q.category(), pool),
+                    (weatherDto == null) ? null : weatherDto.getFetchedAt(),
+                    (weatherDto == null) ? null : WeatherBucket.of(weatherDto)
+            );
+        }
+
+        // 2) 캐시 확인 → miss 만 날씨 버킷별로 묶는다 (날씨 없는 요청은 null 버킷)
+        RecommendationAiDto.RecommendationResponse[] results = new RecommendationAiDto.RecommendationResponse[entries.length];
+        Map<WeatherBucket, List<Integer>> missesByBucket = new LinkedHashMap<>();
+
+        for (int i = 0; i < entries.length; i++) {
+            BatchEntry e = entries[i];
+            if (e.aiRequest().items.isEmpty()) {
+                results[i] = fallbackEmpty("items_empty");
+                continue;
+            }
+            results[i] = recommendationResultCache.get(e.cacheKey(), e.fetchedAt());
+            if (results[i] == null) {
+                missesByBucket.computeIfAbsent(e.bucket(), b -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // 3) 버킷당 병합 AI 호출 (병렬)
+        Map<WeatherBucket, CompletableFuture<RecommendationAiDto.RecommendationResponse>> calls = new LinkedHashMap<>();
+        for (Map.Entry<WeatherBucket, List<Integer>> g : missesByBucket.entrySet()) {
+            RecommendationAiDto.RecommendationRequest merged = mergeRequests(entries, g.getValue());
+            calls.put(g.getKey(), recommendationAiClient.recommendAsync(merged));
+        }
+
+        // 4) 예산 안에 끝난 버킷은 요청별로 나누고, 아니면 로컬 랭킹 + 늦은 결과는 캐시로
+        long deadline = startedAt + batchBudgetMs;
+        for (Map.Entry<WeatherBucket, List<Integer>> g : missesByBucket.entrySet()) {
+            List<Integer> members = g.getValue();
+            CompletableFuture<RecommendationAiDto.RecommendationResponse> call = calls.get(g.getKey());
+
+            RecommendationAiDto.RecommendationResponse merged = null;
+            String failReason = null;
+            try {
+                merged = call.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                failReason = "ai_deadline";
+                call.thenAccept(late -> splitAndCache(entries, members, late));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failReason = "ai_interrupted";
+            } catch (ExecutionException ex) {
+                Throwable cause = (ex.getCause() == null) ? ex : ex.getCause();
+                failReason = (cause instanceof RejectedExecutionException) ? "ai_rejected"
+                        : isShed(cause) ? "ai_shed" : "ai_exception";
+                log.warn("[MATERIAL_AI_BATCH_FAIL] {}", cause.getMessage());
+            }
+
+            // /today 와 같은 단위: 캐시 miss 요청(query)당 RECO_GENERATED 1건 (AI 호출 수가 아님)
+            long latencyMs = System.currentTimeMillis() - startedAt;
+            for (int i : members) {
+                results[i] = (merged == null)
+                        ? fallbackTopK(entries[i].aiRequest(), failReason)
+                        : splitForEntry(entries[i], merged);
+                recommendationResultCache.put(entries[i].cacheKey(), entries[i].fetchedAt(), results[i]);
+
+                logEvent(RecommendationEventType.RECO_GENERATED, Map.of(
+                        "type", "MATERIAL_AI_BATCH",
+                        "latencyMs", latencyMs,
+                        "bucketQueryCount", members.size(),
+                        "pickedCount", results[i].recommendations.size(),
+                        "outcome", "fallback".equals(results[i].status) ? results[i].message : "ai"
+                ));
+            }
+        }
+
+        log.info("[RECO_BATCH] queries={}, regions={}, aiCalls={}, elapsedMs={}",
+                entries.length, weatherByRegion.size(), calls.size(), System.currentTimeMillis() - startedAt);
+
+        List<List<ClothingItemResponseDto>> out = new ArrayList<>(results.length);
+        for (RecommendationAiDto.RecommendationResponse r : results) {
+            out.add(toDtos(r, null));
+        }
+        return out;
+    }
+
+    // 버킷 내 요청들의 후보 합집합 (clothingId 중복 제거), 날씨는 버킷 대표(첫 요청) 사용
+    private RecommendationAiDto.RecommendationRequest mergeRequests(BatchEntry[] entries, List<Integer> members) {
+        Map<Long, RecommendationAiDto.Item> union = new LinkedHashMap<>();
+        for (int i : members) {
+            for (RecommendationAiDto.Item it : entries[i].aiRequest().items) {
+                if (it != null && it.clothingId != null) union.putIfAbsent(it.clothingId, it);
+            }
+        }
+        return new RecommendationAiDto.RecommendationRequest(
+                new ArrayList<>(union.values()),
+                entries[members.get(0)].aiRequest().weather
+        );
+    }
+
+    // 병합 응답에서 이 요청의 후보만 골라 점수 상위 후보
+    private RecommendationAiDto.RecommendationResponse splitForEntry(
+            BatchEntry entry,
+            RecommendationAiDto.RecommendationResponse merged
+    ) {
+        if (merged.recommendations == null || merged.recommendations.isEmpty()) {
+            return fallbackTopK(entry.aiRequest(), "ai_empty");
+        }
+
+        Set<Long> poolIds = new HashSet<>(entry.aiRequest().items.size() * 2);
+        for (RecommendationAiDto.Item it : entry.aiRequest().items) poolIds.add(it.clothingId);
+
+        List<RecommendationAiDto.Recommendation> mine = new ArrayList<>();
+        for (RecommendationAiDto.Recommendation r : merged.recommendations) {
+            if (r != null && poolIds.contains(r.clothingId)) mine.add(r);
+        }
+
+        List<RecommendationAiDto.Recommendation> top = rankCandidates(mine);
+        if (top.isEmpty()) return fallbackTopK(entry.aiRequest(), "ai_empty");
+
+        RecommendationAiDto.RecommendationResponse res = new RecommendationAiDto.RecommendationResponse();
+        res.status = merged.status;
+        res.message = merged.message;
+        res.recommendations = top;
+        return res;
+    }
+
+    private void splitAndCache(BatchEntry[] entries, List<Integer> members, RecommendationAiDto.RecommendationResponse late) {
+        if (late == null) return;
+        for (int i : members) {
+            try {
+                recommendationResultCache.put(entries[i].cacheKey(), entries[i].fetchedAt(), splitForEntry(entries[i], late));
+            } catch (Exception e) {
+                log.debug("[MATERIAL_AI_BATCH_LATE_SINK_FAIL] {}", e.getMessage());
+            }
+        }
+    }
+
+    // ==========================================
+    // 사전 계산 (예보 갱신 후 백그라운드)
+    // ==========================================
+
+    /**
+     * 하루치 예보로 전체 + 카테고리별 후보를 만들고, 후보 합집합으로 AI 1회 호출 후 나눈다
+     * - 예산 없이 호출 스레드에서 기다린다 (recommendPrecomputeExecutor 에서만 호출)
+     *
+     * @return categoryKey("ALL" 또는 카테고리명) → 점수 상위 후보, AI 정상 응답이 나온 것만
+     */
+    Map<String, List<RecommendationAiDto.Recommendation>> computeDaily(String region, DailyWeatherResponseDto day, int poolSize) {
+        long startedAt = System.currentTimeMillis();
+
+        List<ClothingCategory> categories = new ArrayList<>();
+        categories.add(null); // 전체
+        categories.addAll(Arrays.asList(ClothingCategory.values()));
+
+        BatchEntry[] entries = new BatchEntry[categories.size()];
+        List<Integer> members = new ArrayList<>(entries.length);
+        RecommendationAiDto.WeatherData aiWeather = toAiWeather(day);
+
+        for (int i = 0; i < entries.length; i++) {
+            List<CatalogItem> pool = candidatePoolBuilder.build(day.getFeelsLikeTemperature(), poolSize, categories.get(i));
+            entries[i] = new BatchEntry(toAiRequest(aiWeather, pool), null, day.getFetchedAt(), WeatherBucket.of(day));
+            if (!pool.isEmpty()) members.add(i);
+        }
+        if (members.isEmpty()) return Map.of();
+
+        RecommendationAiDto.RecommendationResponse merged;
+        try {
+            merged = recommendationAiClient.recommend(mergeRequests(entries, members));
+        } catch (Exception e) {
+            log.warn("[RECO_PRECOMPUTE_FAIL] region={}, date={}, {}", region, day.getDate(), e.getMessage());
+            logEvent(RecommendationEventType.RECO_PRECOMPUTED, Map.of(
+                    "type", "MATERIAL_AI_PRECOMPUTE_FAIL",
+                    "latencyMs", System.currentTimeMillis() - startedAt,
+                    "errorType", e.getClass().getSimpleName(),
+                    "message", safeMsg(e)
+            ));
+            return Map.of();
+        }
+        if (merged == null) return Map.of();
+
+        Map<String, List<RecommendationAiDto.Recommendation>> out = new LinkedHashMap<>();
+        for (int i : members) {
+            RecommendationAiDto.RecommendationResponse res = splitForEntry(entries[i], merged);
+            if (!"success".equalsIgnoreCase(res.status)) continue; // fallback 은 저장하지 않음
+            out.put(MaterializedRecommendationStore.categoryKey(categories.get(i)), res.recommendations);
+        }
+
+        // 예보 갱신 후 백그라운드 작업 → 사용자 퍼널(RECO_GENERATED)과 분리
+        logEvent(RecommendationEventType.RECO_PRECOMPUTED, Map.of(
+                "type", "MATERIAL_AI_PRECOMPUTE",
+                "latencyMs", System.currentTimeMillis() - startedAt,
+                "categoryCount", out.size()
+        ));
+        return out;
+    }
+
+    private record BatchEntry(
+            RecommendationAiDto.RecommendationRequest aiRequest,
+            RecommendationCacheKey cacheKey,
+            LocalDateTime fetchedAt,
+            WeatherBucket bucket
+    ) {}
+
+    // ==========================================
+    // 코디(조합) 추천
+    // ==========================================
+
+    /**
+     * 오늘 날씨 기준 코디 Top-K
+     * - 카테고리별 후보 풀(resolved) → fallback 점수기로 아이템 점수 → OutfitComposer 로 조합 Top-K
+     * - 조합 수가 카테고리 후보 수의 곱이라 AI 호출 없이 로컬 점수로만 계산
+     */
+    public List<OutfitRecommendationResponseDto> recommendOutfitsToday(String region, double lat, double lon, int resolved, int k) {
+        long startedAt = System.currentTimeMillis();
+
+        DailyWeatherResponseDto weatherDto = weatherService.getTodaySmart(lat, lon, region);
+        double feelsLike = (weatherDto == null) ? 0.0 : weatherDto.getFeelsLikeTemperature();
+        ScoringContext ctx = (weatherDto == null)
+                ? ScoringContext.of(feelsLike, 0, 0)
+                : ScoringContext.of(feelsLike, weatherDto.getHumidity(), weatherDto.getPrecipitationProbability());
+
+        RecommendationScorer scorer = recommendationScorers.fallback();
+        ItemFeatureStore features = catalogSnapshot.features();
+        Map<ClothingCategory, List<ScoredItem>> candidates = new EnumMap<>(ClothingCategory.class);
+        int candidateCount = 0;
+        for (ClothingCategory category : ClothingCategory.values()) {
+            List<CatalogItem> pool = candidatePoolBuilder.build(feelsLike, resolved, category);
+            List<ScoredItem> scored = new ArrayList<>(pool.size());
+            for (CatalogItem it : pool) {
+                int ord = features.ordinal(it.clothingId());
+                if (ord < 0) continue;
+                scored.add(new ScoredItem(it, scorer.score(features, ord, ctx)));
+            }
+            candidates.put(category, scored);
+            candidateCount += scored.size();
+        }
+
+        List<Outfit> outfits = outfitComposer.compose(candidates, k);
+
+        logEvent(RecommendationEventType.RECO_GENERATED, Map.of(
+                "type", "OUTFIT_COMPOSE",
+                "latencyMs", System.currentTimeMillis() - startedAt,
+                "candidateCount", candidateCount,
+                "outfitCount", outfits.size()
+        ));
+
+        List<OutfitRecommendationResponseDto> out = new ArrayList<>(outfits.size());
+        for (Outfit o : outfits) {
+            List<ClothingItemResponseDto> items = new ArrayList<>(o.items().size());
+            for (ScoredItem s : o.items()) items.add(toDto(s.item()));
+            out.add(OutfitRecommendationResponseDto.builder()
+                    .score(o.score())
+                    .items(items)
+                    .build());
+        }
+        return out;
     }
 
     // [중요] DTO 변환 헬퍼 메서드 (이게 없어서 에러났었음)
+    // - 카탈로그 스냅샷에 있으면 속성까지 채워서 내려준다 (seasons 는 스냅샷 비트마스크에서)
     private ClothingItemResponseDto convertToDto(RecommendationAiDto.Recommendation r) {
-        // ClothingItemResponseDto에 @Builder가 있다고 가정
+        CatalogItem it = catalogSnapshot.findByClothingId(r.clothingId).orElse(null);
+        if (it == null) {
+            return ClothingItemResponseDto.builder()
+                    .clothingId(r.clothingId)
+                    .name(r.name)
+                    .build();
+        }
+        return toDto(it);
+    }
+
+    private ClothingItemResponseDto toDto(CatalogItem it) {
         return ClothingItemResponseDto.builder()
-                .id(r.clothingId)
-                .name(r.name)
-                // .category(...) // 필요시 추가
-                // .imageUrl(...) // 필요시 추가
+                .id(it.id())
+                .clothingId(it.clothingId())
+                .name(it.name())
+                .category(it.category())
+                .thicknessLevel(it.thicknessLevel())
+                .usageType(it.usageType())
+                .suitableMinTemp(it.suitableMinTemp())
+                .suitableMaxTemp(it.suitableMaxTemp())
+                .cottonPercentage(it.cottonPercentage())
+                .polyesterPercentage(it.polyesterPercentage())
+                .etcFiberPercentage(it.etcFiberPercentage())
+                .seasons(it.seasons())
+                .color(it.color())
+                .styleTag(it.styleTag())
+                .imageUrl(it.imageUrl())
+                .selectedCount(it.selectedCount())
                 .build();
     }
 }
\ No newline at end of file
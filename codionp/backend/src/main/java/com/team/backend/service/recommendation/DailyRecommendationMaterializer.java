@@ -0,0 +1,168 @@
+// src/main/java/com/team/backend/service/recommendation/DailyRecommendationMaterializer.java
+package com.team.backend.service.recommendation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.backend.api.dto.weather.DailyWeatherResponseDto;
+import com.team.backend.domain.DailyRecommendation;
+import com.team.backend.repository.recommendation.DailyRecommendationRepository;
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import com.team.backend.service.weather.DailyWeatherRefreshedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 예보 갱신 → 지역별 5일치 (전체 + 카테고리별) 추천 사전 계산
+ * - daily_weather upsert 커밋 이후 recommendPrecomputeExecutor 에서 실행 (요청 스레드와 무관)
+ * - 결과는 daily_recommendation 테이블 + MaterializedRecommendationStore 에 반영
+ * - 기동 시 오늘 이후 행을 인메모리로 다시 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyRecommendationMaterializer {
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+    private static final TypeReference<List<RecommendationAiDto.Recommendation>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final ClothingRecommendationService clothingRecommendationService;
+    private final MaterializedRecommendationStore materializedRecommendationStore;
+    private final DailyRecommendationRepository dailyRecommendationRepository;
+    private final ObjectMapper objectMapper;
+    private final Executor recommendPrecomputeExecutor;
+
+    @Value("${codi.recommend.materialize.enabled:true}")
+    private boolean enabled;
+
+    @Value("${codi.recommend.materialize.pool-size:50}")
+    private int poolSize;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWeatherRefreshed(DailyWeatherRefreshedEvent event) {
+        if (!enabled || event.days() == null || event.days().isEmpty()) return;
+
+        try {
+            recommendPrecomputeExecutor.execute(() -> {
+                try {
+                    materialize(event.region(), event.days());
+                } catch (Exception e) {
+                    log.warn("[RECO_PRECOMPUTE_FAIL] region={}, {}", event.region(), e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 다음 예보 갱신 때 다시 계산되고, 그 전까지는 요청 경로(캐시/AI)가 처리
+            log.warn("[RECO_PRECOMPUTE_REJECTED] region={}", event.region());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) return;
+
+        try {
+            LocalDate today = LocalDate.now(KST_ZONE);
+            List<DailyRecommendation> rows = dailyRecommendationRepository.findAllByDateGreaterThanEqual(today);
+            for (DailyRecommendation row : rows) {
+                materializedRecommendationStore.put(
+                        row.getRegion(), row.getDate(), row.getCategory(), row.getWeatherFetchedAt(), readPayload(row.getPayload()));
+            }
+            log.info("[RECO_PRECOMPUTE_WARMUP] rows={}, entries={}", rows.size(), materializedRecommendationStore.size());
+        } catch (Exception e) {
+            log.warn("[RECO_PRECOMPUTE_WARMUP_FAIL] {}", e.getMessage());
+        }
+    }
+
+    void materialize(String region, List<DailyWeatherResponseDto> days) {
+        long startedAt = System.currentTimeMillis();
+        String regionKey = RecommendationCacheKey.normalizeRegion(region);
+        LocalDate today = LocalDate.now(KST_ZONE);
+
+        List<DailyRecommendation> toSave = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now(KST_ZONE);
+
+        LocalDate minDate = days.stream().map(DailyWeatherResponseDto::getDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate maxDate = days.stream().map(DailyWeatherResponseDto::getDate).max(LocalDate::compareTo).orElseThrow();
+
+        // (date, category) -> 기존 행
+        Map<String, DailyRecommendation> existing = dailyRecommendationRepository
+                .findAllByRegionAndDateBetween(regionKey, minDate, maxDate).stream()
+                .collect(Collectors.toMap(r -> rowKey(r.getDate(), r.getCategory()), Function.identity(), (a, b) -> a));
+
+        for (DailyWeatherResponseDto day : days) {
+            if (day.getDate() == null || day.getDate().isBefore(today)) continue;
+
+            Map<String, List<RecommendationAiDto.Recommendation>> computed =
+                    clothingRecommendationService.computeDaily(region, day, poolSize);
+
+            for (Map.Entry<String, List<RecommendationAiDto.Recommendation>> e : computed.entrySet()) {
+                materializedRecommendationStore.put(regionKey, day.getDate(), e.getKey(), day.getFetchedAt(), e.getValue());
+
+                String payload = writePayload(e.getValue());
+                if (payload == null) continue;
+
+                DailyRecommendation row = existing.get(rowKey(day.getDate(), e.getKey()));
+                if (row == null) {
+                    row = DailyRecommendation.builder()
+                            .region(regionKey)
+                            .date(day.getDate())
+                            .category(e.getKey())
+                            .weatherFetchedAt(day.getFetchedAt())
+                            .payload(payload)
+                            .computedAt(now)
+                            .build();
+                } else {
+                    row.updateFrom(day.getFetchedAt(), payload, now);
+                }
+                toSave.add(row);
+            }
+        }
+
+        materializedRecommendationStore.evictBefore(today);
+
+        try {
+            dailyRecommendationRepository.saveAll(toSave);
+        } catch (Exception e) {
+            // 인메모리는 이미 반영됨 → 재기동 전까지는 영향 없음
+            log.warn("[RECO_PRECOMPUTE_SAVE_FAIL] region={}, {}", region, e.getMessage());
+        }
+
+        log.info("[RECO_PRECOMPUTE] region={}, days={}, rows={}, elapsedMs={}",
+                region, days.size(), toSave.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private String rowKey(LocalDate date, String category) {
+        return date + "|" + category;
+    }
+
+    private String writePayload(List<RecommendationAiDto.Recommendation> recs) {
+        try {
+            return objectMapper.writeValueAsString(recs);
+        } catch (Exception e) {
+            log.warn("[RECO_PRECOMPUTE_PAYLOAD_FAIL] {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private List<RecommendationAiDto.Recommendation> readPayload(String payload) {
+        try {
+            return objectMapper.readValue(payload, PAYLOAD_TYPE);
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+}
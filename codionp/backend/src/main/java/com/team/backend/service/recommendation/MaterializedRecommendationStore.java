@@ -0,0 +1,83 @@
+// src/main/java/com/team/backend/service/recommendation/MaterializedRecommendationStore.java
+package com.team.backend.service.recommendation;
+
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사전 계산 추천 인메모리 맵 (region, date, category) → 점수 상위 후보 (최종 Top-K 는 요청 시 선택)
+ * - /api/recommend/today 의 기본(비개인화) 경로는 여기서 O(1) 조회로 끝난다
+ * - 원본은 daily_recommendation 테이블 (재기동 시 DailyRecommendationMaterializer 가 다시 적재)
+ */
+@Component
+public class MaterializedRecommendationStore {
+
+    static final String ALL_CATEGORIES = "ALL";
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @return 없으면 null (호출부에서 기존 경로로 계산)
+     */
+    public RecommendationAiDto.RecommendationResponse get(String region, LocalDate date, ClothingCategory category) {
+        Entry e = entries.get(new Key(RecommendationCacheKey.normalizeRegion(region), date, categoryKey(category)));
+        if (e == null) return null;
+
+        RecommendationAiDto.RecommendationResponse res = new RecommendationAiDto.RecommendationResponse();
+        res.status = "success";
+        res.message = "materialized";
+        res.recommendations = e.recommendations();
+        return res;
+    }
+
+    public void put(
+            String region,
+            LocalDate date,
+            String categoryKey,
+            LocalDateTime weatherFetchedAt,
+            List<RecommendationAiDto.Recommendation> recommendations
+    ) {
+        if (region == null || date == null || categoryKey == null || recommendations == null || recommendations.isEmpty()) return;
+
+        Key key = new Key(RecommendationCacheKey.normalizeRegion(region), date, categoryKey);
+        Entry next = new Entry(weatherFetchedAt, List.copyOf(recommendations));
+
+        // 같은 키에 더 오래된 예보 기준 결과가 늦게 도착해도 덮어쓰지 않는다
+        entries.merge(key, next, (cur, in) ->
+                (cur.weatherFetchedAt() != null && in.weatherFetchedAt() != null
+                        && in.weatherFetchedAt().isBefore(cur.weatherFetchedAt())) ? cur : in);
+    }
+
+    /**
+     * 지난 날짜 엔트리 제거
+     */
+    public void evictBefore(LocalDate date) {
+        entries.keySet().removeIf(k -> k.date().isBefore(date));
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(KST_ZONE);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    static String categoryKey(ClothingCategory category) {
+        return (category == null) ? ALL_CATEGORIES : category.name();
+    }
+
+    private record Key(String region, LocalDate date, String category) {}
+
+    private record Entry(LocalDateTime weatherFetchedAt, List<RecommendationAiDto.Recommendation> recommendations) {}
+}
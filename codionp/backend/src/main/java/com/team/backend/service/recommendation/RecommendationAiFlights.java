@@ -0,0 +1,59 @@
+// src/main/java/com/team/backend/service/recommendation/RecommendationAiFlights.java
+package com.team.backend.service.recommendation;
+
+import com.team.backend.common.concurrent.SingleFlight;
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 진행 중인 AI 추천 호출 합치기 (결과 캐시 miss 구간의 thundering herd 방지)
+ * - 키는 결과 캐시와 같은 RecommendationCacheKey → 캐시가 같은 답을 줄 요청끼리만 합친다
+ * - 아침 시간처럼 같은 지역/날씨 버킷 요청이 몰려도 AI 호출은 키당 1건, 나머지는 그 future 를 기다린다
+ * - 응답 객체는 호출자마다 얕은 복사본으로 넘긴다 (finishAiResponse 가 recommendations 를 바꿔 끼우므로)
+ * - 지표: codion.singleflight.* {name=recommendation}
+ */
+@Component
+public class RecommendationAiFlights {
+
+    public static final String FLIGHT_NAME = "recommendation";
+
+    private final SingleFlight<RecommendationCacheKey, RecommendationAiDto.RecommendationResponse> flights;
+    private final boolean enabled;
+
+    public RecommendationAiFlights(
+            MeterRegistry meterRegistry,
+            @Value("${codi.recommend.single-flight.enabled:true}") boolean enabled
+    ) {
+        this.flights = new SingleFlight<RecommendationCacheKey, RecommendationAiDto.RecommendationResponse>()
+                .bindTo(meterRegistry, FLIGHT_NAME);
+        this.enabled = enabled;
+    }
+
+    /**
+     * @param key  null 이거나 비활성이면 합치지 않고 바로 call
+     * @param call leader 일 때만 실행 (supplyAsync 제출 예외는 그대로 전파)
+     */
+    public SingleFlight.Flight<RecommendationAiDto.RecommendationResponse> join(
+            RecommendationCacheKey key,
+            Supplier<CompletableFuture<RecommendationAiDto.RecommendationResponse>> call
+    ) {
+        SingleFlight.Flight<RecommendationAiDto.RecommendationResponse> flight =
+                flights.join(enabled ? key : null, call);
+        return new SingleFlight.Flight<>(flight.future().thenApply(RecommendationAiFlights::copyOf), flight.leader());
+    }
+
+    private static RecommendationAiDto.RecommendationResponse copyOf(RecommendationAiDto.RecommendationResponse src) {
+        if (src == null) return null;
+        RecommendationAiDto.RecommendationResponse out = new RecommendationAiDto.RecommendationResponse();
+        out.status = src.status;
+        out.message = src.message;
+        out.recommendations = (src.recommendations == null) ? null : new ArrayList<>(src.recommendations);
+        return out;
+    }
+}
@@ -0,0 +1,16 @@
+// src/main/java/com/team/backend/service/recommendation/RecommendationBatchQuery.java
+package com.team.backend.service.recommendation;
+
+import com.team.backend.domain.enums.ClothingCategory;
+
+/**
+ * 배치 추천 1건 (컨트롤러에서 기본값/limit 검증을 마친 값)
+ * - category null 이면 전체 카테고리
+ */
+public record RecommendationBatchQuery(
+        String region,
+        double lat,
+        double lon,
+        ClothingCategory category,
+        int limit
+) {}
@@ -0,0 +1,63 @@
+// src/main/java/com/team/backend/service/recommendation/RecommendationCacheKey.java
+package com.team.backend.service.recommendation;
+
+import com.team.backend.api.dto.weather.DailyWeatherResponseDto;
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.service.clothing.CatalogItem;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 추천 결과 캐시 키
+ * - region + 날씨 버킷(WeatherBucket) + 카테고리 + 후보군 해시
+ * - 같은 지역/같은 날씨 버킷의 요청은 대부분 같은 키로 모인다
+ */
+public record RecommendationCacheKey(
+        String region,
+        LocalDate date,
+        int feelsLikeBucket,
+        int humidityBucket,
+        int precipitationBucket,
+        String category,
+        long candidateHash
+) {
+
+    private static final String ALL_CATEGORIES = "ALL";
+
+    public static RecommendationCacheKey of(
+            String region,
+            DailyWeatherResponseDto weather,
+            ClothingCategory category,
+            List<CatalogItem> pool
+    ) {
+        WeatherBucket bucket = WeatherBucket.of(weather);
+        return new RecommendationCacheKey(
+                normalizeRegion(region),
+                bucket.date(),
+                bucket.feelsLikeBucket(),
+                bucket.humidityBucket(),
+                bucket.precipitationBucket(),
+                (category == null) ? ALL_CATEGORIES : category.name(),
+                candidateHash(pool)
+        );
+    }
+
+    /**
+     * 후보군(순서 포함) 해시 - 카탈로그가 바뀌면 키가 달라져 자연스럽게 miss
+     */
+    static long candidateHash(List<CatalogItem> pool) {
+        long h = 0xcbf29ce484222325L; // FNV-1a 64bit offset basis
+        for (CatalogItem it : pool) {
+            long id = (it.clothingId() == null) ? 0L : it.clothingId();
+            h ^= id;
+            h *= 0x100000001b3L;
+        }
+        return h ^ pool.size();
+    }
+
+    static String normalizeRegion(String region) {
+        return (region == null) ? "" : region.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,117 @@
+// src/main/java/com/team/backend/service/recommendation/RecommendationRanker.java
+package com.team.backend.service.recommendation;
+
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추천 결과 Top-K 선택 (정렬/박싱 없이)
+ * - 크기 K 최소 힙(double[] 점수 + int[] 원래 인덱스) 한 번 훑기: O(n log K)
+ * - 힙 버퍼는 스레드별로 재사용 → 요청당 할당은 결과 리스트 1개뿐
+ *
+ * 순서 규칙 (기존 전체 정렬과 동일)
+ * - clothingId null / score NaN·Infinity 는 제외
+ * - score desc, score null 은 맨 뒤
+ * - 동점이면 입력 순서 유지 (stable)
+ */
+public final class RecommendationRanker {
+
+    // score null 표시용 (유한한 점수만 통과하므로 실제 값과 겹치지 않음)
+    private static final double NULL_SCORE = Double.NEGATIVE_INFINITY;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private RecommendationRanker() {}
+
+    public static List<RecommendationAiDto.Recommendation> topK(List<RecommendationAiDto.Recommendation> recs, int k) {
+        if (recs == null || recs.isEmpty() || k <= 0) return new ArrayList<>(0);
+
+        Scratch s = SCRATCH.get();
+        s.ensure(k);
+        double[] hs = s.scores;
+        int[] hi = s.indexes;
+        int size = 0;
+
+        for (int i = 0, n = recs.size(); i < n; i++) {
+            RecommendationAiDto.Recommendation r = recs.get(i);
+            if (r == null || r.clothingId == null) continue;
+
+            double score;
+            if (r.score == null) {
+                score = NULL_SCORE;
+            } else {
+                score = r.score;
+                if (!Double.isFinite(score)) continue;
+            }
+
+            if (size < k) {
+                hs[size] = score;
+                hi[size] = i;
+                siftUp(hs, hi, size++);
+            } else if (better(score, i, hs[0], hi[0])) {
+                hs[0] = score;
+                hi[0] = i;
+                siftDown(hs, hi, size);
+            }
+        }
+
+        // 힙에서 꺼내면 나쁜 것부터 → 뒤에서부터 채운다
+        RecommendationAiDto.Recommendation[] out = new RecommendationAiDto.Recommendation[size];
+        for (int pos = size - 1; pos >= 0; pos--) {
+            out[pos] = recs.get(hi[0]);
+            hs[0] = hs[pos];
+            hi[0] = hi[pos];
+            siftDown(hs, hi, pos);
+        }
+
+        List<RecommendationAiDto.Recommendation> list = new ArrayList<>(size);
+        for (RecommendationAiDto.Recommendation r : out) list.add(r);
+        return list;
+    }
+
+    // (점수 높음, 같으면 먼저 들어온 것)이 더 좋다
+    private static boolean better(double sa, int ia, double sb, int ib) {
+        return sa > sb || (sa == sb && ia < ib);
+    }
+
+    // 최소 힙: 루트가 가장 나쁜 원소
+    private static void siftUp(double[] hs, int[] hi, int c) {
+        while (c > 0) {
+            int p = (c - 1) >>> 1;
+            if (!better(hs[p], hi[p], hs[c], hi[c])) break;
+            swap(hs, hi, p, c);
+            c = p;
+        }
+    }
+
+    private static void siftDown(double[] hs, int[] hi, int size) {
+        int c = 0;
+        while (true) {
+            int l = 2 * c + 1;
+            if (l >= size) return;
+            int r = l + 1;
+            int worst = (r < size && better(hs[l], hi[l], hs[r], hi[r])) ? r : l;
+            if (!better(hs[c], hi[c], hs[worst], hi[worst])) return;
+            swap(hs, hi, c, worst);
+            c = worst;
+        }
+    }
+
+    private static void swap(double[] hs, int[] hi, int a, int b) {
+        double ts = hs[a]; hs[a] = hs[b]; hs[b] = ts;
+        int ti = hi[a]; hi[a] = hi[b]; hi[b] = ti;
+    }
+
+    private static final class Scratch {
+        double[] scores = new double[8];
+        int[] indexes = new int[8];
+
+        void ensure(int k) {
+            if (scores.length >= k) return;
+            scores = new double[k];
+            indexes = new int[k];
+        }
+    }
+}
@@ -0,0 +1,73 @@
+// src/main/java/com/team/backend/service/recommendation/RecommendationResultCache.java
+package com.team.backend.service.recommendation;
+
+import com.team.backend.common.cache.BoundedLruCache;
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * recommendByMaterialML 앞단 결과 캐시
+ * - 만료는 적재 시각 + max-age (오늘 예보 row 의 fetchedAt 은 보통 max-age 보다 오래됐으므로 기준으로 쓰지 않는다)
+ * - 새 예보가 upsert 되면 fetchedAt 이 바뀌어 기존 엔트리는 get 에서 무효
+ * - 성공(status=success) 응답만 저장 (fallback 은 캐시하지 않음)
+ * - 지표: codion.cache.* {cache=recommendation}
+ */
+@Component
+public class RecommendationResultCache {
+
+    public static final String CACHE_NAME = "recommendation";
+
+    private final BoundedLruCache<RecommendationCacheKey, Cached> cache;
+    private final long maxAgeMs;
+
+    public RecommendationResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${codi.recommend.cache.max-entries:10000}") int maxEntries,
+            @Value("${codi.recommend.cache.max-age-min:180}") long maxAgeMin
+    ) {
+        this.cache = new BoundedLruCache<RecommendationCacheKey, Cached>(maxEntries)
+                .bindTo(meterRegistry, CACHE_NAME);
+        this.maxAgeMs = maxAgeMin * 60_000L;
+    }
+
+    /**
+     * @param fetchedAt 지금 요청이 사용한 예보의 fetchedAt (다르면 무효 처리)
+     */
+    public RecommendationAiDto.RecommendationResponse get(RecommendationCacheKey key, LocalDateTime fetchedAt) {
+        if (key == null || fetchedAt == null) return null;
+
+        Cached c = cache.get(key);
+        if (c == null) return null;
+
+        if (!Objects.equals(c.fetchedAt(), fetchedAt)) {
+            cache.invalidate(key);
+            return null;
+        }
+        return copyOf(c.response());
+    }
+
+    public void put(RecommendationCacheKey key, LocalDateTime fetchedAt, RecommendationAiDto.RecommendationResponse res) {
+        if (key == null || fetchedAt == null || res == null) return;
+        if (!"success".equalsIgnoreCase(res.status)) return;
+        if (res.recommendations == null || res.recommendations.isEmpty()) return;
+
+        cache.put(key, new Cached(copyOf(res), fetchedAt), System.currentTimeMillis() + maxAgeMs);
+    }
+
+    // 호출자가 recommendations 를 바꿔 끼워도 캐시 본체는 그대로 유지되도록 얕은 복사
+    private RecommendationAiDto.RecommendationResponse copyOf(RecommendationAiDto.RecommendationResponse src) {
+        RecommendationAiDto.RecommendationResponse out = new RecommendationAiDto.RecommendationResponse();
+        out.status = src.status;
+        out.message = src.message;
+        out.recommendations = (src.recommendations == null) ? List.of() : List.copyOf(src.recommendations);
+        return out;
+    }
+
+    private record Cached(RecommendationAiDto.RecommendationResponse response, LocalDateTime fetchedAt) {}
+}
@@ -0,0 +1,21 @@
+// src/main/java/com/team/backend/service/recommendation/RecommendationStreamSink.java
+package com.team.backend.service.recommendation;
+
+import com.team.backend.api.dto.clothingItem.ClothingItemResponseDto;
+import com.team.backend.api.dto.recommendation.RecommendationStreamDto;
+
+import java.util.List;
+
+/**
+ * 단계별 추천 결과 수신자 (SSE 등)
+ * - 호출 순서: local? → refined? → complete (complete 는 정확히 1번, 마지막)
+ * - AI 응답 스레드(aiCallExecutor)에서 호출될 수 있다 → 구현은 던지지 말고 빨리 끝낼 것
+ */
+public interface RecommendationStreamSink {
+
+    void local(List<ClothingItemResponseDto> items);
+
+    void refined(List<ClothingItemResponseDto> items);
+
+    void complete(RecommendationStreamDto.Final result);
+}
@@ -0,0 +1,31 @@
+// src/main/java/com/team/backend/service/recommendation/WeatherBucket.java
+package com.team.backend.service.recommendation;
+
+import com.team.backend.api.dto.weather.DailyWeatherResponseDto;
+
+import java.time.LocalDate;
+
+/**
+ * 날씨 버킷 (KST 날짜 + 체감온도 1도, 습도/강수확률 10% 단위 양자화)
+ * - 결과 캐시 키와 배치 추천의 AI 호출 병합 단위가 같은 기준을 쓰도록 한 곳에서 계산
+ */
+public record WeatherBucket(
+        LocalDate date,
+        int feelsLikeBucket,
+        int humidityBucket,
+        int precipitationBucket
+) {
+
+    static final double FEELS_LIKE_STEP = 1.0;
+    static final int HUMIDITY_STEP = 10;
+    static final int PRECIPITATION_STEP = 10;
+
+    public static WeatherBucket of(DailyWeatherResponseDto weather) {
+        return new WeatherBucket(
+                weather.getDate(),
+                (int) Math.round(weather.getFeelsLikeTemperature() / FEELS_LIKE_STEP),
+                weather.getHumidity() / HUMIDITY_STEP,
+                weather.getPrecipitationProbability() / PRECIPITATION_STEP
+        );
+    }
+}
@@ -0,0 +1,96 @@
+// src/main/java/com/team/backend/service/recommendation/affinity/AffinityBlender.java
+package com.team.backend.service.recommendation.affinity;
+
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.clothing.ClothingCatalogSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 비개인화 랭킹 + 사용자 취향 블렌딩
+ * - blended = (1 − β·conf)·relevance + β·conf·affinity (모두 0~1)
+ *   relevance: 후보 점수 min-max 정규화, conf: 감쇠된 클릭 수 / fullConfidenceClicks (최대 1)
+ * - 클릭이 minClicks 미만이면 원래 순서 그대로
+ * - blended 는 정렬 키로만 쓴다: Recommendation.score(응답에 나가는 점수)는 원래 값 그대로,
+ *   순서만 바꾼 새 리스트 + 같은 순서의 blended 배열을 돌려준다 (캐시/사전 계산 리스트는 건드리지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AffinityBlender {
+
+    private final UserAffinityStore userAffinityStore;
+    private final ClothingCatalogSnapshot catalogSnapshot;
+
+    @Value("${codi.recommend.affinity.weight:0.3}")
+    private double weight;
+
+    @Value("${codi.recommend.affinity.min-clicks:3}")
+    private double minClicks;
+
+    @Value("${codi.recommend.affinity.full-confidence-clicks:20}")
+    private double fullConfidenceClicks;
+
+    /**
+     * @param ranked 점수 desc 후보
+     * @param userId null 이면 그대로
+     * @return 개인화하지 않으면 relevance = null (ranked 그대로)
+     */
+    public Blended blend(List<RecommendationAiDto.Recommendation> ranked, Long userId) {
+        if (ranked == null || ranked.size() < 2 || weight <= 0.0) return Blended.unchanged(ranked);
+
+        UserAffinity affinity = userAffinityStore.find(userId);
+        if (affinity == null) return Blended.unchanged(ranked);
+
+        double mass = affinity.mass(System.currentTimeMillis(), userAffinityStore.halfLifeMs());
+        if (mass < minClicks) return Blended.unchanged(ranked);
+        double beta = weight * Math.min(1.0, mass / fullConfidenceClicks);
+
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+        for (RecommendationAiDto.Recommendation r : ranked) {
+            if (r.score == null) continue;
+            min = Math.min(min, r.score);
+            max = Math.max(max, r.score);
+        }
+        double span = max - min;
+
+        int n = ranked.size();
+        double[] key = new double[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            RecommendationAiDto.Recommendation r = ranked.get(i);
+            double rel = (r.score == null) ? 0.0 : (span > 0 ? (r.score - min) / span : 1.0);
+            CatalogItem it = catalogSnapshot.findByClothingId(r.clothingId).orElse(null);
+            double aff = (it == null) ? 0.0 : affinity.score(it);
+
+            key[i] = (1.0 - beta) * rel + beta * aff;
+            order[i] = i;
+        }
+
+        // 안정 정렬 → 동점이면 원래(비개인화) 순서
+        Arrays.sort(order, (a, b) -> Double.compare(key[b], key[a]));
+
+        List<RecommendationAiDto.Recommendation> out = new ArrayList<>(n);
+        double[] relevance = new double[n];
+        for (int i = 0; i < n; i++) {
+            out.add(ranked.get(order[i]));
+            relevance[i] = key[order[i]];
+        }
+        return new Blended(out, relevance);
+    }
+
+    /**
+     * @param ranked    최종 후보 순서
+     * @param relevance ranked 와 같은 순서의 0~1 정렬 키 (null 이면 호출부가 score 로 계산)
+     */
+    public record Blended(List<RecommendationAiDto.Recommendation> ranked, double[] relevance) {
+        static Blended unchanged(List<RecommendationAiDto.Recommendation> ranked) {
+            return new Blended(ranked, null);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+// src/main/java/com/team/backend/service/recommendation/affinity/UserAffinity.java
+package com.team.backend.service.recommendation.affinity;
+
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.domain.enums.ThicknessLevel;
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.clothing.ColorPalette;
+
+import java.util.Locale;
+
+/**
+ * 사용자 1명의 취향 벡터 (클릭 기반, 고정 크기 float[40] ≈ 200B)
+ * - 구간: category(5) | thickness(3) | color(16 버킷) | styleTag(16 버킷)
+ *   color/style 은 정규화된 문자열 해시 버킷 (충돌은 허용 - 크기 고정이 우선)
+ * - 클릭 1회 = 해당 구간 칸에 +1, 이전 값은 반감기(halfLifeMs)로 지수 감쇠
+ * - 점수 = 구간별 (아이템 칸 값 / 구간 합) 의 가중합, 0~1
+ */
+public final class UserAffinity {
+
+    static final int CATEGORY_DIMS = ClothingCategory.values().length;
+    static final int THICKNESS_DIMS = ThicknessLevel.values().length;
+    static final int COLOR_BUCKETS = 16;
+    static final int STYLE_BUCKETS = 16;
+
+    private static final int CATEGORY_OFF = 0;
+    private static final int THICKNESS_OFF = CATEGORY_OFF + CATEGORY_DIMS;
+    private static final int COLOR_OFF = THICKNESS_OFF + THICKNESS_DIMS;
+    private static final int STYLE_OFF = COLOR_OFF + COLOR_BUCKETS;
+    static final int DIMS = STYLE_OFF + STYLE_BUCKETS;
+
+    // 구간 가중치 (합 1)
+    private static final double W_CATEGORY = 0.35;
+    private static final double W_THICKNESS = 0.15;
+    private static final double W_COLOR = 0.25;
+    private static final double W_STYLE = 0.25;
+
+    private final float[] v = new float[DIMS];
+    private double mass;        // 감쇠 반영된 총 클릭 수
+    private long updatedAtMs;
+
+    /**
+     * 클릭 1건 반영 (과거 시각 클릭도 감쇠를 맞춰 반영 - 기동 시 재구성용)
+     */
+    public synchronized void add(CatalogItem it, long clickedAtMs, long halfLifeMs) {
+        if (it == null) return;
+
+        if (updatedAtMs == 0L) {
+            updatedAtMs = clickedAtMs;
+        }
+
+        double w;
+        if (clickedAtMs >= updatedAtMs) {
+            decay(clickedAtMs - updatedAtMs, halfLifeMs);
+            updatedAtMs = clickedAtMs;
+            w = 1.0;
+        } else {
+            // 늦게 도착한 과거 클릭: 기존 벡터 대신 이 클릭을 감쇠
+            w = Math.pow(0.5, (double) (updatedAtMs - clickedAtMs) / halfLifeMs);
+        }
+
+        if (it.category() != null) v[CATEGORY_OFF + it.category().ordinal()] += (float) w;
+        if (it.thicknessLevel() != null) v[THICKNESS_OFF + it.thicknessLevel().ordinal()] += (float) w;
+
+        String color = ColorPalette.canonical(it.color());
+        if (color != null) v[COLOR_OFF + bucket(color, COLOR_BUCKETS)] += (float) w;
+
+        String style = normalizeStyle(it.styleTag());
+        if (style != null) v[STYLE_OFF + bucket(style, STYLE_BUCKETS)] += (float) w;
+
+        mass += w;
+    }
+
+    /**
+     * 지금까지 반영한 클릭 중 가장 최근 시각 (없으면 0)
+     */
+    public synchronized long lastClickedAtMs() {
+        return updatedAtMs;
+    }
+
+    /**
+     * @return 0~1 (클릭한 속성과 많이 겹칠수록 큼)
+     */
+    public synchronized double score(CatalogItem it) {
+        if (it == null || mass <= 0.0) return 0.0;
+
+        double s = 0.0;
+        if (it.category() != null) {
+            s += W_CATEGORY * share(CATEGORY_OFF, CATEGORY_DIMS, CATEGORY_OFF + it.category().ordinal());
+        }
+        if (it.thicknessLevel() != null) {
+            s += W_THICKNESS * share(THICKNESS_OFF, THICKNESS_DIMS, THICKNESS_OFF + it.thicknessLevel().ordinal());
+        }
+        String color = ColorPalette.canonical(it.color());
+        if (color != null) {
+            s += W_COLOR * share(COLOR_OFF, COLOR_BUCKETS, COLOR_OFF + bucket(color, COLOR_BUCKETS));
+        }
+        String style = normalizeStyle(it.styleTag());
+        if (style != null) {
+            s += W_STYLE * share(STYLE_OFF, STYLE_BUCKETS, STYLE_OFF + bucket(style, STYLE_BUCKETS));
+        }
+        return s;
+    }
+
+    /**
+     * 감쇠된 총 클릭 수 (개인화 반영 강도 조절용)
+     */
+    public synchronized double mass(long nowMs, long halfLifeMs) {
+        if (nowMs <= updatedAtMs) return mass;
+        return mass * Math.pow(0.5, (double) (nowMs - updatedAtMs) / halfLifeMs);
+    }
+
+    private void decay(long elapsedMs, long halfLifeMs) {
+        if (elapsedMs <= 0) return;
+        float f = (float) Math.pow(0.5, (double) elapsedMs / halfLifeMs);
+        for (int i = 0; i < DIMS; i++) v[i] *= f;
+        mass *= f;
+    }
+
+    private double share(int off, int len, int idx) {
+        double sum = 0.0;
+        for (int i = off; i < off + len; i++) sum += v[i];
+        return (sum <= 0.0) ? 0.0 : v[idx] / sum;
+    }
+
+    private static int bucket(String s, int buckets) {
+        return Math.floorMod(s.hashCode(), buckets);
+    }
+
+    private static String normalizeStyle(String styleTag) {
+        if (styleTag == null || styleTag.isBlank()) return null;
+        return styleTag.trim().toLowerCase(Locale.ROOT);
+    }
+}
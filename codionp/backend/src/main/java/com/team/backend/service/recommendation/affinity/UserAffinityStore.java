@@ -0,0 +1,176 @@
+// src/main/java/com/team/backend/service/recommendation/affinity/UserAffinityStore.java
+package com.team.backend.service.recommendation.affinity;
+
+import com.team.backend.common.cache.BoundedLruCache;
+import com.team.backend.repository.log.ItemClickLogJdbcRepository;
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.clothing.ClothingCatalogSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 취향 벡터 (인메모리)
+ * - 클릭 저장(ItemClickLogService.create) 커밋 후 증분 반영
+ * - 기동 시 item_click_log 최근 lookbackDays 를 커서로 스트리밍해 재구성
+ *   재구성이 끝날 때까지 들어온 실시간 클릭은 모아 두었다가, 커서에서 이미 읽은 클릭을 빼고 반영 (중복 반영 방지)
+ * - 사용자 수 상한(LRU) + 마지막 클릭 후 idleDays 지나면 만료 → 메모리 상한 = maxUsers × ~200B
+ * - 추천 경로는 여기서만 읽는다 (요청마다 파티션 테이블 조회 없음)
+ * - 지표: codion.cache.* {cache=user-affinity}
+ */
+@Slf4j
+@Component
+public class UserAffinityStore {
+
+    public static final String CACHE_NAME = "user-affinity";
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final ClothingCatalogSnapshot catalogSnapshot;
+    private final ItemClickLogJdbcRepository itemClickLogJdbcRepository;
+    private final BoundedLruCache<Long, UserAffinity> users;
+
+    private final boolean enabled;
+    private final long halfLifeMs;
+    private final long idleMs;
+    private final int lookbackDays;
+
+    // 재구성 전/중 실시간 클릭 (click → 아직 커서에서 못 본 건수), null 이면 재구성 끝 (this 모니터로 보호)
+    private Map<Click, Integer> pendingLive = new HashMap<>();
+
+    public UserAffinityStore(
+            ClothingCatalogSnapshot catalogSnapshot,
+            ItemClickLogJdbcRepository itemClickLogJdbcRepository,
+            MeterRegistry meterRegistry,
+            @Value("${codi.recommend.affinity.enabled:true}") boolean enabled,
+            @Value("${codi.recommend.affinity.max-users:100000}") int maxUsers,
+            @Value("${codi.recommend.affinity.half-life-days:14}") long halfLifeDays,
+            @Value("${codi.recommend.affinity.idle-days:30}") long idleDays,
+            @Value("${codi.recommend.affinity.lookback-days:30}") int lookbackDays
+    ) {
+        this.catalogSnapshot = catalogSnapshot;
+        this.itemClickLogJdbcRepository = itemClickLogJdbcRepository;
+        this.users = new BoundedLruCache<Long, UserAffinity>(maxUsers).bindTo(meterRegistry, CACHE_NAME);
+        this.enabled = enabled;
+        this.halfLifeMs = Duration.ofDays(halfLifeDays).toMillis();
+        this.idleMs = Duration.ofDays(idleDays).toMillis();
+        this.lookbackDays = lookbackDays;
+    }
+
+    /**
+     * 클릭 1건 반영 (트랜잭션 안이면 커밋 이후)
+     *
+     * @param clothingItemPk item_click_log.clothing_item_id (= clothing_item.id)
+     */
+    public void onClick(Long userId, Long clothingItemPk, long clickedAtMs) {
+        if (!enabled || userId == null || clothingItemPk == null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyLive(new Click(userId, clothingItemPk, clickedAtMs));
+                }
+            });
+            return;
+        }
+        applyLive(new Click(userId, clothingItemPk, clickedAtMs));
+    }
+
+    private void applyLive(Click c) {
+        synchronized (this) {
+            if (pendingLive != null) {
+                pendingLive.merge(c, 1, Integer::sum);
+                return;
+            }
+        }
+        apply(c.userId(), c.clothingItemPk(), c.clickedAtMs());
+    }
+
+    /**
+     * @return 취향 벡터, 없거나 만료면 null
+     */
+    public UserAffinity find(Long userId) {
+        if (!enabled || userId == null) return null;
+        return users.get(userId);
+    }
+
+    public long halfLifeMs() {
+        return halfLifeMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            drainPendingLive();
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long[] rows = {0L};
+        try {
+            OffsetDateTime since = OffsetDateTime.now().minusDays(lookbackDays);
+            itemClickLogJdbcRepository.streamUserClicksSince(since, STREAM_FETCH_SIZE, (userId, itemPk, clickedAtMs) -> {
+                markStreamed(new Click(userId, itemPk, clickedAtMs));
+                apply(userId, itemPk, clickedAtMs);
+                rows[0]++;
+            });
+            log.info("[USER_AFFINITY_REBUILD] clicks={}, users={}, elapsedMs={}",
+                    rows[0], users.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 재구성 실패해도 이후 클릭부터는 증분으로 채워진다
+            log.warn("[USER_AFFINITY_REBUILD_FAIL] clicks={}, {}", rows[0], e.getMessage());
+        } finally {
+            drainPendingLive();
+        }
+    }
+
+    // 커서가 읽은 클릭이 대기 중인 실시간 클릭이면 대기 목록에서 뺀다 (커서 쪽에서 한 번만 반영)
+    private synchronized void markStreamed(Click c) {
+        if (pendingLive == null) return;
+        pendingLive.computeIfPresent(c, (k, n) -> (n > 1) ? n - 1 : null);
+    }
+
+    // 커서에 없던 실시간 클릭 반영 후 대기 종료
+    private void drainPendingLive() {
+        List<Click> rest = new ArrayList<>();
+        synchronized (this) {
+            if (pendingLive == null) return;
+            pendingLive.forEach((c, n) -> {
+                for (int i = 0; i < n; i++) rest.add(c);
+            });
+            pendingLive = null;
+        }
+        for (Click c : rest) apply(c.userId(), c.clothingItemPk(), c.clickedAtMs());
+    }
+
+    private void apply(long userId, long clothingItemPk, long clickedAtMs) {
+        long expiresAtMs = clickedAtMs + idleMs;
+        if (expiresAtMs <= System.currentTimeMillis()) return; // 이미 비활성 기간이 지난 클릭
+
+        CatalogItem it = catalogSnapshot.findById(clothingItemPk).orElse(null);
+        if (it == null) return;
+
+        synchronized (users) {
+            UserAffinity a = users.get(userId);
+            if (a == null) a = new UserAffinity();
+            a.add(it, clickedAtMs, halfLifeMs);
+            // 가장 최근 클릭 기준으로 만료 (늦게 들어온 과거 클릭이 만료를 당기지 않도록) + LRU 최신화
+            users.put(userId, a, Math.max(expiresAtMs, a.lastClickedAtMs() + idleMs));
+        }
+    }
+
+    private record Click(long userId, long clothingItemPk, long clickedAtMs) {}
+}
@@ -0,0 +1,131 @@
+// src/main/java/com/team/backend/service/recommendation/diversity/DiversityReranker.java
+package com.team.backend.service.recommendation.diversity;
+
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import com.team.backend.service.clothing.ClothingCatalogSnapshot;
+import com.team.backend.service.clothing.ItemFeatureStore;
+import com.team.backend.service.clothing.ItemSimilarityMatrix;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다양성 재정렬 (MMR: maximal marginal relevance)
+ * - 점수 상위 poolSize 개 중에서 K개를 고른다
+ *   다음 후보 = argmax λ·relevance(i) − (1−λ)·max_{j∈선택됨} sim(i, j)
+ * - relevance = 후보 점수를 0~1 로 min-max 정규화 (score null 은 0), 취향 블렌딩 결과가 있으면 그 키
+ * - sim 은 ItemSimilarityMatrix (category/color/styleTag) - 코드는 ItemFeatureStore 컬럼에서 ordinal 로 읽는다
+ *   (카탈로그 적재 시 인코딩 끝, 요청마다 문자열 정규화/사전 조회 없음) - 스냅샷에 없는 아이템은 누구와도 0
+ * - 비용: poolSize × K 번의 int 비교 + 행렬 읽기 (AI 후보를 늘리지 않고 인프로세스에서 끝)
+ */
+@Component
+public class DiversityReranker {
+
+    private final ClothingCatalogSnapshot catalogSnapshot;
+
+    private final boolean enabled;
+    private final double lambda;
+    private final int poolSize;
+
+    public DiversityReranker(
+            ClothingCatalogSnapshot catalogSnapshot,
+            @Value("${codi.recommend.diversity.enabled:true}") boolean enabled,
+            @Value("${codi.recommend.diversity.lambda:0.7}") double lambda,
+            @Value("${codi.recommend.diversity.pool-size:20}") int poolSize
+    ) {
+        if (lambda < 0.0 || lambda > 1.0) {
+            throw new IllegalArgumentException("codi.recommend.diversity.lambda는 0~1 사이만 허용됩니다.");
+        }
+        this.catalogSnapshot = catalogSnapshot;
+        this.enabled = enabled;
+        this.lambda = lambda;
+        this.poolSize = Math.max(1, poolSize);
+    }
+
+    /**
+     * 재정렬 전에 점수 순으로 남겨둘 후보 수 (비활성이면 k 그대로)
+     */
+    public int candidateCount(int k) {
+        return enabled ? Math.max(k, poolSize) : k;
+    }
+
+    /**
+     * @param ranked 점수 desc 정렬된 후보 (score null 은 뒤)
+     * @return 최대 k개, 첫 번째는 항상 최고 점수 후보
+     */
+    public List<RecommendationAiDto.Recommendation> rerank(List<RecommendationAiDto.Recommendation> ranked, int k) {
+        return rerank(ranked, null, k);
+    }
+
+    /**
+     * @param relevance ranked 와 같은 순서의 0~1 relevance (예: 취향 블렌딩 키). null 이면 score 를 정규화
+     */
+    public List<RecommendationAiDto.Recommendation> rerank(
+            List<RecommendationAiDto.Recommendation> ranked,
+            double[] relevance,
+            int k
+    ) {
+        if (k <= 0 || ranked == null) return List.of();
+        int n = ranked.size();
+        if (n <= k) return ranked;
+        if (!enabled) return new ArrayList<>(ranked.subList(0, k));
+
+        // 코드 컬럼과 사전은 같은 저장소에서 (재적재 중에도 짝이 맞게 한 번만 읽는다)
+        ItemFeatureStore features = catalogSnapshot.features();
+        ItemSimilarityMatrix similarity = features.similarity();
+
+        double[] rel = new double[n];
+        int[] codes = new int[n];
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < n; i++) {
+            RecommendationAiDto.Recommendation r = ranked.get(i);
+            if (r.score != null) {
+                min = Math.min(min, r.score);
+                max = Math.max(max, r.score);
+            }
+            int ord = features.ordinal(r.clothingId);
+            codes[i] = (ord < 0) ? 0 : features.similarityCode(ord);
+        }
+
+        double span = max - min;
+        for (int i = 0; i < n; i++) {
+            if (relevance != null) {
+                rel[i] = relevance[i];
+                continue;
+            }
+            Double s = ranked.get(i).score;
+            rel[i] = (s == null) ? 0.0 : (span > 0 ? (s - min) / span : 1.0);
+        }
+
+        // maxSim[i] = 이미 고른 아이템들과의 최대 유사도 (고르면 갱신)
+        double[] maxSim = new double[n];
+        boolean[] taken = new boolean[n];
+        List<RecommendationAiDto.Recommendation> out = new ArrayList<>(k);
+
+        int pick = 0; // 첫 번째는 최고 점수 그대로
+        while (true) {
+            taken[pick] = true;
+            out.add(ranked.get(pick));
+            if (out.size() >= k) break;
+
+            int best = -1;
+            double bestMmr = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                if (taken[i]) continue;
+                double s = similarity.similarity(codes[i], codes[pick]);
+                if (s > maxSim[i]) maxSim[i] = s;
+
+                double mmr = lambda * rel[i] - (1.0 - lambda) * maxSim[i];
+                if (mmr > bestMmr) { // 동점이면 앞(점수 높은) 후보
+                    bestMmr = mmr;
+                    best = i;
+                }
+            }
+            pick = best;
+        }
+        return out;
+    }
+}
@@ -0,0 +1,10 @@
+// src/main/java/com/team/backend/service/recommendation/outfit/Outfit.java
+package com.team.backend.service.recommendation.outfit;
+
+import java.util.List;
+
+/**
+ * 코디 1벌 (TOP+BOTTOM 또는 ONE_PIECE, 선택적으로 OUTER/ACCESSORY)
+ * - score: 슬롯 가중 점수 합 + 아이템 간 궁합 보너스
+ */
+public record Outfit(double score, List<ScoredItem> items) {}
@@ -0,0 +1,300 @@
+// src/main/java/com/team/backend/service/recommendation/outfit/OutfitComposer.java
+package com.team.backend.service.recommendation.outfit;
+
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.clothing.ColorPalette;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 코디 조합 Top-K (best-first branch-and-bound)
+ *
+ * 템플릿
+ * - TOP + BOTTOM (+ OUTER?) (+ ACCESSORY?)
+ * - ONE_PIECE (+ OUTER?) (+ ACCESSORY?)
+ *
+ * 점수
+ * - 슬롯별 가중 점수 합: TOP/BOTTOM 0.5, ONE_PIECE 1.0, OUTER 0.3, ACCESSORY 0.1
+ *   (선택 슬롯은 OPTIONAL_BASELINE 보다 낮은 아이템이면 손해 → "안 입음"이 이길 수 있음)
+ * - 아이템 쌍마다 궁합 보너스(색 조화 + 스타일 태그 일치)
+ *
+ * 탐색
+ * - 슬롯별 후보를 기여도 desc 로 정렬해 두고, 상태 = (고정된 prefix, 현재 슬롯의 후보 idx)
+ * - pop 한 상태에서 "idx 선택 후 다음 슬롯" / "같은 슬롯 idx+1" 두 자식만 만든다 → 조합마다 경로 1개
+ * - 상한 = 누적 점수 + 남은 슬롯 최선 기여도 합 + 남은 쌍의 최대 보너스 (admissible)
+ * - 완성 조합은 상한 = 실제 점수로 큐에 들어가므로, 큐에서 나오는 순서가 곧 정확한 Top-K
+ * - 데카르트 곱을 만들지 않고 보통 K * 슬롯 수 수준의 pop 으로 끝난다
+ */
+@Component
+public class OutfitComposer {
+
+    static final double W_TOP = 0.5;
+    static final double W_BOTTOM = 0.5;
+    static final double W_ONE_PIECE = 1.0;
+    static final double W_OUTER = 0.3;
+    static final double W_ACCESSORY = 0.1;
+
+    // 선택 슬롯(OUTER/ACCESSORY)은 이 점수 이상일 때만 입는 게 이득
+    static final double OPTIONAL_BASELINE = 50.0;
+
+    static final double COLOR_BONUS = 2.0;
+    static final double STYLE_BONUS = 3.0;
+    static final double PAIR_BONUS_MAX = COLOR_BONUS + STYLE_BONUS;
+
+    // 한 아이템이 나머지 슬롯(최대 3개)과 만들 수 있는 보너스 상한
+    static final double MAX_PAIR_BONUS_PER_ITEM = PAIR_BONUS_MAX * 3;
+
+    // 비정상 입력 방어용 pop 상한 (정상 케이스에선 닿지 않음)
+    private static final int MAX_POPS = 200_000;
+
+    public List<Outfit> compose(Map<ClothingCategory, List<ScoredItem>> candidates, int k) {
+        if (k <= 0 || candidates == null || candidates.isEmpty()) return List.of();
+
+        Slot top = Slot.required(candidates.get(ClothingCategory.TOP), W_TOP, k);
+        Slot bottom = Slot.required(candidates.get(ClothingCategory.BOTTOM), W_BOTTOM, k);
+        Slot onePiece = Slot.required(candidates.get(ClothingCategory.ONE_PIECE), W_ONE_PIECE, k);
+        Slot outer = Slot.optional(candidates.get(ClothingCategory.OUTER), W_OUTER, k);
+        Slot accessory = Slot.optional(candidates.get(ClothingCategory.ACCESSORY), W_ACCESSORY, k);
+
+        List<Template> templates = new ArrayList<>(2);
+        if (top.size() > 0 && bottom.size() > 0) templates.add(new Template(new Slot[]{top, bottom, outer, accessory}));
+        if (onePiece.size() > 0) templates.add(new Template(new Slot[]{onePiece, outer, accessory}));
+        if (templates.isEmpty()) return List.of();
+
+        PriorityQueue<State> pq = new PriorityQueue<>(64, (a, b) -> Double.compare(b.bound, a.bound));
+        for (Template t : templates) {
+            pq.add(pending(t, 0, 0, 0.0, new int[t.slots.length]));
+        }
+
+        List<Outfit> out = new ArrayList<>(k);
+        int pops = 0;
+
+        while (!pq.isEmpty() && out.size() < k && pops++ < MAX_POPS) {
+            State s = pq.poll();
+
+            if (s.complete) {
+                out.add(toOutfit(s));
+                continue;
+            }
+
+            Template t = s.template;
+            Slot slot = t.slots[s.slotPos];
+
+            // (a) 같은 슬롯의 다음 후보 (prefix 동일)
+            if (s.idx + 1 < slot.size()) {
+                pq.add(pending(t, s.slotPos, s.idx + 1, s.acc, s.chosen));
+            }
+
+            // (b) 현재 후보를 선택하고 다음 슬롯으로
+            int[] chosen = s.chosen.clone();
+            chosen[s.slotPos] = s.idx;
+            double acc = s.acc + slot.contrib[s.idx] + pairBonus(t, chosen, s.slotPos);
+
+            if (s.slotPos + 1 == t.slots.length) {
+                pq.add(new State(t, s.slotPos, s.idx, acc, chosen, acc, true));
+            } else {
+                pq.add(pending(t, s.slotPos + 1, 0, acc, chosen));
+            }
+        }
+        return out;
+    }
+
+    private State pending(Template t, int slotPos, int idx, double acc, int[] chosen) {
+        double bound = acc
+                + t.slots[slotPos].contrib[idx]
+                + t.restBest[slotPos + 1]
+                + t.restPairBound[slotPos];
+        return new State(t, slotPos, idx, acc, chosen, bound, false);
+    }
+
+    // slotPos 에 새로 고른 아이템과 앞 슬롯에서 고른 아이템들 사이의 보너스
+    private double pairBonus(Template t, int[] chosen, int slotPos) {
+        CatalogItem cur = t.slots[slotPos].itemAt(chosen[slotPos]);
+        if (cur == null) return 0.0;
+
+        double bonus = 0.0;
+        for (int p = 0; p < slotPos; p++) {
+            CatalogItem prev = t.slots[p].itemAt(chosen[p]);
+            if (prev == null) continue;
+            bonus += pairBonus(prev, cur);
+        }
+        return bonus;
+    }
+
+    static double pairBonus(CatalogItem a, CatalogItem b) {
+        double bonus = 0.0;
+        if (colorsMatch(a.color(), b.color())) bonus += COLOR_BONUS;
+        if (a.styleTag() != null && !a.styleTag().isBlank() && a.styleTag().equalsIgnoreCase(b.styleTag())) {
+            bonus += STYLE_BONUS;
+        }
+        return bonus;
+    }
+
+    // 같은 색이거나, 한쪽이 무채색/기본색이면 잘 어울린다고 본다
+    private static boolean colorsMatch(String a, String b) {
+        String x = ColorPalette.canonical(a);
+        String y = ColorPalette.canonical(b);
+        if (x == null || y == null) return false;
+        return x.equals(y) || ColorPalette.isNeutral(x) || ColorPalette.isNeutral(y);
+    }
+
+    private Outfit toOutfit(State s) {
+        List<ScoredItem> items = new ArrayList<>(s.chosen.length);
+        Slot[] slots = s.template.slots;
+        for (int p = 0; p < slots.length; p++) {
+            ScoredItem it = slots[p].scoredAt(s.chosen[p]);
+            if (it != null) items.add(it);
+        }
+        return new Outfit(Math.round(s.bound * 100.0) / 100.0, items);
+    }
+
+    // ==============================
+    // 내부 구조
+    // ==============================
+
+    /**
+     * 슬롯 1개: 기여도(가중 점수) desc 정렬된 후보 배열
+     * - 선택 슬롯은 "안 입음(NONE, 기여도 0)" 후보를 같이 정렬해 둔다
+     */
+    private static final class Slot {
+        final ScoredItem[] items; // NONE 자리는 null
+        final double[] contrib;
+
+        private Slot(ScoredItem[] items, double[] contrib) {
+            this.items = items;
+            this.contrib = contrib;
+        }
+
+        static Slot required(List<ScoredItem> list, double weight, int k) {
+            return of(list, weight, 0.0, false, k);
+        }
+
+        static Slot optional(List<ScoredItem> list, double weight, int k) {
+            return of(list, weight, OPTIONAL_BASELINE, true, k);
+        }
+
+        /**
+         * 지배 가지치기: 같은 슬롯에 기여도 k등 이상인 후보가 k개 있으므로
+         * contrib + (다른 슬롯과의 최대 보너스) < k등 기여도 인 후보는 어떤 조합에서도 Top-K 에 못 든다
+         * → 정렬 전에 잘라 후보 수를 줄인다
+         */
+        private static Slot of(List<ScoredItem> list, double weight, double baseline, boolean withNone, int k) {
+            int n = (list == null) ? 0 : list.size();
+            int total = n + (withNone ? 1 : 0);
+            double[] raw = new double[total];
+            for (int i = 0; i < n; i++) {
+                raw[i] = weight * (list.get(i).score() - baseline);
+            }
+            // withNone 이면 raw[n] = 0.0 (안 입음)
+
+            double cutoff = (total > k) ? kthLargest(raw, k) - MAX_PAIR_BONUS_PER_ITEM : Double.NEGATIVE_INFINITY;
+
+            int kept = 0;
+            long[] keys = new long[total];
+            for (int i = 0; i < total; i++) {
+                if (raw[i] < cutoff) continue;
+                keys[kept++] = sortKey(raw[i], i);
+            }
+            Arrays.sort(keys, 0, kept);
+
+            ScoredItem[] items = new ScoredItem[kept];
+            double[] contrib = new double[kept];
+            for (int j = 0; j < kept; j++) {
+                int i = (int) (keys[j] & 0xFFFFFFFFL);
+                items[j] = (i < n) ? list.get(i) : null;
+                contrib[j] = raw[i];
+            }
+            // float 키 반올림으로 생긴 인접 역전만 바로잡는다 (거의 정렬된 상태라 O(n))
+            for (int j = 1; j < kept; j++) {
+                for (int m = j; m > 0 && contrib[m] > contrib[m - 1]; m--) {
+                    double tc = contrib[m]; contrib[m] = contrib[m - 1]; contrib[m - 1] = tc;
+                    ScoredItem ti = items[m]; items[m] = items[m - 1]; items[m - 1] = ti;
+                }
+            }
+            return new Slot(items, contrib);
+        }
+
+        // 기여도 desc 정렬용 키: 상위 32bit = 기여도(float, 순서 보존 변환), 하위 32bit = 원래 인덱스
+        private static long sortKey(double v, int idx) {
+            int bits = Float.floatToIntBits((float) -v);
+            bits ^= (bits >> 31) & 0x7FFFFFFF;
+            return ((long) bits << 32) | (idx & 0xFFFFFFFFL);
+        }
+
+        // k번째로 큰 값 (크기 k 최소 힙)
+        private static double kthLargest(double[] v, int k) {
+            double[] heap = new double[k];
+            int size = 0;
+            for (double x : v) {
+                if (size < k) {
+                    heap[size] = x;
+                    int c = size++;
+                    while (c > 0 && heap[(c - 1) / 2] > heap[c]) {
+                        int p = (c - 1) / 2;
+                        double t = heap[p]; heap[p] = heap[c]; heap[c] = t;
+                        c = p;
+                    }
+                } else if (x > heap[0]) {
+                    heap[0] = x;
+                    int c = 0;
+                    while (true) {
+                        int l = 2 * c + 1, r = l + 1, m = c;
+                        if (l < k && heap[l] < heap[m]) m = l;
+                        if (r < k && heap[r] < heap[m]) m = r;
+                        if (m == c) break;
+                        double t = heap[m]; heap[m] = heap[c]; heap[c] = t;
+                        c = m;
+                    }
+                }
+            }
+            return heap[0];
+        }
+
+        int size() { return contrib.length; }
+        double best() { return contrib.length == 0 ? 0.0 : contrib[0]; }
+        ScoredItem scoredAt(int idx) { return items[idx]; }
+        CatalogItem itemAt(int idx) {
+            ScoredItem s = scoredAt(idx);
+            return (s == null) ? null : s.item();
+        }
+    }
+
+    private static final class Template {
+        final Slot[] slots;
+        final double[] restBest;      // restBest[i] = i 이후 슬롯들의 최선 기여도 합
+        final double[] restPairBound; // restPairBound[i] = i 이후 슬롯이 만들 수 있는 최대 쌍 보너스
+
+        Template(Slot[] slots) {
+            this.slots = slots;
+            int n = slots.length;
+            this.restBest = new double[n + 1];
+            this.restPairBound = new double[n + 1];
+            for (int i = n - 1; i >= 0; i--) {
+                restBest[i] = restBest[i + 1] + slots[i].best();
+                restPairBound[i] = restPairBound[i + 1] + PAIR_BONUS_MAX * i; // 슬롯 i 는 앞 i 개와 쌍
+            }
+        }
+    }
+
+    private static final class State {
+        final Template template;
+        final int slotPos;
+        final int idx;
+        final double acc;     // 확정된 prefix 의 실제 점수
+        final int[] chosen;   // slotPos 이전까지 고른 후보 idx
+        final double bound;   // 완성 상태면 실제 점수
+        final boolean complete;
+
+        State(Template template, int slotPos, int idx, double acc, int[] chosen, double bound, boolean complete) {
+            this.template = template;
+            this.slotPos = slotPos;
+            this.idx = idx;
+            this.acc = acc;
+            this.chosen = chosen;
+            this.bound = bound;
+            this.complete = complete;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+// src/main/java/com/team/backend/service/recommendation/outfit/ScoredItem.java
+package com.team.backend.service.recommendation.outfit;
+
+import com.team.backend.service.clothing.CatalogItem;
+
+/**
+ * 점수가 매겨진 단일 아이템 (코디 조합 입력)
+ */
+public record ScoredItem(CatalogItem item, double score) {}
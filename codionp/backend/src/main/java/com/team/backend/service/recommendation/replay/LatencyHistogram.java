@@ -0,0 +1,62 @@
+// src/main/java/com/team/backend/service/recommendation/replay/LatencyHistogram.java
+package com.team.backend.service.recommendation.replay;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지연 히스토그램 (나노초 기록, 여러 스레드 동시 기록 가능)
+ * - 2의 거듭제곱 구간마다 SUB_BUCKETS 칸 → 상대 오차 ~1/SUB_BUCKETS (12.5%)
+ * - 기록 = 비트 연산 + AtomicLongArray 증가 1회 (락/할당 없음)
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public void record(long nanos) {
+        counts.incrementAndGet(index(Math.max(0L, nanos)));
+    }
+
+    public long count() {
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) n += counts.get(i);
+        return n;
+    }
+
+    /**
+     * @param q 0~1 (예: 0.99)
+     * @return 해당 분위가 속한 칸의 상한(나노초), 기록이 없으면 0
+     */
+    public long percentile(double q) {
+        long total = count();
+        if (total == 0) return 0L;
+
+        long rank = Math.max(1L, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return upperBound(i);
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    // v < SUB_BUCKETS 는 그대로, 그 이상은 (최상위 비트 위치, 그 아래 SUB_BITS 비트) 로 칸을 정한다
+    static int index(long v) {
+        if (v < SUB_BUCKETS) return (int) v;
+        int msb = 63 - Long.numberOfLeadingZeros(v);
+        int shift = msb - SUB_BITS;
+        int sub = (int) (v >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS;
+        long lower = (SUB_BUCKETS + sub) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,370 @@
+// src/main/java/com/team/backend/service/recommendation/replay/RecommendationReplayService.java
+package com.team.backend.service.recommendation.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.backend.common.time.TimeRanges;
+import com.team.backend.domain.DailyWeather;
+import com.team.backend.domain.enums.recommendation.RecommendationEventType;
+import com.team.backend.repository.log.ItemClickLogJdbcRepository;
+import com.team.backend.repository.log.RecommendationEventLogJdbcRepository;
+import com.team.backend.repository.weather.DailyWeatherRepository;
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.clothing.ClothingCatalogSnapshot;
+import com.team.backend.service.clothing.ItemFeatureStore;
+import com.team.backend.service.recommendation.CandidatePoolBuilder;
+import com.team.backend.service.recommendation.scoring.RecommendationScorer;
+import com.team.backend.service.recommendation.scoring.RecommendationScorers;
+import com.team.backend.service.recommendation.scoring.ScoringContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 오프라인 리플레이 / 점수기 평가
+ * 1) daily_weather 기간치 → (region, date) 별 ScoringContext
+ * 2) item_click_log [from, to + window) 회원 클릭을 커서로 읽어 사용자별 (시각, clothingId) 배열로
+ * 3) recommendation_event_log [from, to) 를 커서로 읽으며 CHUNK 단위로 워커 풀(코어 수)에 넘긴다
+ *    - 이벤트마다 날씨 복원 → 후보 풀(날씨별 1회 계산 후 재사용) → 점수기별 Top-K + 지연 기록
+ *    - 이벤트 이후 window 안에 그 사용자가 클릭한 아이템이 Top-K 에 있으면 hit
+ * - 커서는 워커가 밀리면 기다린다 (in-flight CHUNK 수 제한) → 이벤트 수와 무관하게 메모리 일정
+ * - 후보 풀은 현재 카탈로그 스냅샷 기준 (당시 카탈로그가 아니다)
+ * - 한 번에 하나만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationReplayService {
+
+    private static final int FETCH_SIZE = 5000;
+    private static final int CHUNK = 512;
+    private static final ZoneId ZONE = ZoneId.of(TimeRanges.timezone());
+
+    private final RecommendationEventLogJdbcRepository recommendationEventLogJdbcRepository;
+    private final ItemClickLogJdbcRepository itemClickLogJdbcRepository;
+    private final DailyWeatherRepository dailyWeatherRepository;
+    private final ClothingCatalogSnapshot catalogSnapshot;
+    private final CandidatePoolBuilder candidatePoolBuilder;
+    private final RecommendationScorers recommendationScorers;
+    private final ObjectMapper objectMapper;
+
+    // 0 이면 코어 수
+    @Value("${codi.recommend.replay.threads:0}")
+    private int threads;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public ReplayReport replay(ReplayQuery q) {
+        List<RecommendationScorer> scorers = resolveScorers(q.scorers());
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 리플레이가 실행 중입니다.");
+        }
+        try {
+            return run(q, scorers);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ReplayReport run(ReplayQuery q, List<RecommendationScorer> scorers) {
+        long startedAt = System.currentTimeMillis();
+        TimeRanges.Range range = TimeRanges.kstDayRange(q.from(), q.to());
+        long windowMs = q.clickWindowMin() * 60_000L;
+
+        Map<String, ScoringContext> weather = loadWeather(q.from(), q.to());
+        Map<Long, UserClicks> clicks = new HashMap<>();
+        long clicksLoaded = loadClicks(range, windowMs, clicks);
+
+        int n = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(n, r -> {
+            Thread t = new Thread(r, "reco-replay-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        Run run = new Run(q, scorers, weather, clicks, windowMs);
+        int maxInFlight = n * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long[] events = {0L};
+        List<Event> chunk = new ArrayList<>(CHUNK);
+
+        try {
+            recommendationEventLogJdbcRepository.streamRange(
+                    range.fromInclusive(), range.toExclusive(), eventTypesOf(q), FETCH_SIZE,
+                    (userId, createdAtMs, payloadJson) -> {
+                        events[0]++;
+                        chunk.add(new Event(userId, createdAtMs, payloadJson));
+                        if (chunk.size() == CHUNK) {
+                            dispatch(pool, inFlight, run, new ArrayList<>(chunk));
+                            chunk.clear();
+                        }
+                    });
+            if (!chunk.isEmpty()) dispatch(pool, inFlight, run, new ArrayList<>(chunk));
+
+            inFlight.acquireUninterruptibly(maxInFlight); // 남은 CHUNK 완료 대기
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long elapsedMs = Math.max(1L, System.currentTimeMillis() - startedAt);
+        List<ReplayReport.ScorerResult> results = new ArrayList<>(scorers.size());
+        long withClicks = run.withClicks.sum();
+        for (int i = 0; i < scorers.size(); i++) {
+            LatencyHistogram h = run.latency[i];
+            long hits = run.hits[i].sum();
+            results.add(new ReplayReport.ScorerResult(
+                    scorers.get(i).name(),
+                    q.k(),
+                    hits,
+                    (withClicks == 0) ? 0.0 : (double) hits / withClicks,
+                    h.percentile(0.50) / 1_000L,
+                    h.percentile(0.90) / 1_000L,
+                    h.percentile(0.99) / 1_000L,
+                    h.percentile(1.0) / 1_000L
+            ));
+        }
+
+        ReplayReport report = new ReplayReport(
+                events[0],
+                run.replayed.sum(),
+                run.noWeather.sum(),
+                withClicks,
+                clicksLoaded,
+                elapsedMs,
+                events[0] * 1000.0 / elapsedMs,
+                n,
+                results
+        );
+        log.info("[RECO_REPLAY] {}", report);
+        return report;
+    }
+
+    // 타입 미지정 = 사용자 이벤트 전체 (섀도 비교 등 시스템 이벤트는 후보/세션 정보가 없다)
+    private static List<RecommendationEventType> eventTypesOf(ReplayQuery q) {
+        return (q.eventTypes() == null || q.eventTypes().isEmpty())
+                ? RecommendationEventType.userFacing()
+                : q.eventTypes();
+    }
+
+    private List<RecommendationScorer> resolveScorers(List<String> names) {
+        if (names == null || names.isEmpty()) return List.of(recommendationScorers.fallback());
+
+        List<RecommendationScorer> out = new ArrayList<>(names.size());
+        for (String name : names) {
+            out.add(recommendationScorers.find(name).orElseThrow(() -> new IllegalArgumentException(
+                    "등록되지 않은 scorer 입니다: " + name + " (등록: " + recommendationScorers.names() + ")")));
+        }
+        return out;
+    }
+
+    private Map<String, ScoringContext> loadWeather(LocalDate from, LocalDate to) {
+        Map<String, ScoringContext> out = new HashMap<>();
+        for (DailyWeather w : dailyWeatherRepository.findAllByDateBetween(from, to)) {
+            out.put(weatherKey(w.getRegion(), w.getDate()), ScoringContext.of(
+                    w.getFeelsLikeTemperature(),
+                    w.getHumidity() == null ? 0 : w.getHumidity(),
+                    w.getPrecipitationProbability() == null ? 0 : w.getPrecipitationProbability()
+            ));
+        }
+        return out;
+    }
+
+    // clothing_item_id(PK) → clothingId (현재 스냅샷에 없는 아이템은 버린다)
+    private long loadClicks(TimeRanges.Range range, long windowMs, Map<Long, UserClicks> out) {
+        long[] loaded = {0L};
+        itemClickLogJdbcRepository.streamUserClicksBetween(
+                range.fromInclusive(), range.toExclusive().plusNanos(windowMs * 1_000_000L), FETCH_SIZE,
+                (userId, itemPk, clickedAtMs) -> {
+                    CatalogItem it = catalogSnapshot.findById(itemPk).orElse(null);
+                    if (it == null) return;
+                    out.computeIfAbsent(userId, u -> new UserClicks()).add(clickedAtMs, it.clothingId());
+                    loaded[0]++;
+                });
+        return loaded[0];
+    }
+
+    private void dispatch(ExecutorService pool, Semaphore inFlight, Run run, List<Event> chunk) {
+        inFlight.acquireUninterruptibly(); // 워커가 밀리면 커서도 멈춘다
+        try {
+            pool.execute(() -> {
+                try {
+                    run.process(chunk);
+                } catch (Exception e) {
+                    log.warn("[RECO_REPLAY_CHUNK_FAIL] {}", e.getMessage());
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private String regionOf(String payloadJson, String defaultRegion) {
+        if (payloadJson == null) return defaultRegion;
+        try {
+            JsonNode region = objectMapper.readTree(payloadJson).get("region");
+            return (region == null || region.asText().isBlank()) ? defaultRegion : region.asText();
+        } catch (Exception e) {
+            return defaultRegion;
+        }
+    }
+
+    private static String weatherKey(String region, LocalDate date) {
+        return region.trim().toLowerCase(Locale.ROOT) + "|" + date;
+    }
+
+    private record Event(Long userId, long createdAtMs, String payloadJson) {}
+
+    /**
+     * 실행 1회 상태 (워커 스레드들이 공유, 카운터는 LongAdder)
+     */
+    private final class Run {
+        final ReplayQuery q;
+        final List<RecommendationScorer> scorers;
+        final Map<String, ScoringContext> weather;
+        final Map<Long, UserClicks> clicks;
+        final long windowMs;
+        final ItemFeatureStore features = catalogSnapshot.features();
+
+        // 날씨 키별 후보 풀 ordinal (같은 날/지역 이벤트는 재사용)
+        final Map<String, int[]> pools = new ConcurrentHashMap<>();
+
+        final LongAdder replayed = new LongAdder();
+        final LongAdder noWeather = new LongAdder();
+        final LongAdder withClicks = new LongAdder();
+        final LongAdder[] hits;
+        final LatencyHistogram[] latency;
+
+        Run(ReplayQuery q, List<RecommendationScorer> scorers, Map<String, ScoringContext> weather,
+            Map<Long, UserClicks> clicks, long windowMs) {
+            this.q = q;
+            this.scorers = scorers;
+            this.weather = weather;
+            this.clicks = clicks;
+            this.windowMs = windowMs;
+            this.hits = new LongAdder[scorers.size()];
+            this.latency = new LatencyHistogram[scorers.size()];
+            for (int i = 0; i < scorers.size(); i++) {
+                hits[i] = new LongAdder();
+                latency[i] = new LatencyHistogram();
+            }
+        }
+
+        void process(List<Event> chunk) {
+            int k = q.k();
+            long[] topIds = new long[k];
+            double[] topScores = new double[k];
+
+            for (Event e : chunk) {
+                LocalDate date = Instant.ofEpochMilli(e.createdAtMs()).atZone(ZONE).toLocalDate();
+                String key = weatherKey(regionOf(e.payloadJson(), q.defaultRegion()), date);
+                ScoringContext ctx = weather.get(key);
+                if (ctx == null) {
+                    noWeather.increment();
+                    continue;
+                }
+                replayed.increment();
+
+                int[] ords = pools.computeIfAbsent(key, x -> poolOrdinals(ctx));
+
+                UserClicks uc = (e.userId() == null) ? null : clicks.get(e.userId());
+                long[] clicked = (uc == null) ? null : uc.between(e.createdAtMs(), e.createdAtMs() + windowMs);
+                boolean hasClicks = clicked != null && clicked.length > 0;
+                if (hasClicks) withClicks.increment();
+
+                for (int s = 0; s < scorers.size(); s++) {
+                    long t0 = System.nanoTime();
+                    int size = topK(scorers.get(s), ords, ctx, topIds, topScores);
+                    latency[s].record(System.nanoTime() - t0);
+
+                    if (hasClicks && containsAny(topIds, size, clicked)) hits[s].increment();
+                }
+            }
+        }
+
+        private int[] poolOrdinals(ScoringContext ctx) {
+            List<CatalogItem> pool = candidatePoolBuilder.build(ctx.feelsLike(), q.poolSize(), null);
+            int[] ords = new int[pool.size()];
+            int n = 0;
+            for (CatalogItem it : pool) {
+                int ord = features.ordinal(it.clothingId());
+                if (ord >= 0) ords[n++] = ord;
+            }
+            return Arrays.copyOf(ords, n);
+        }
+
+        // 점수 desc, 동점이면 먼저 나온 후보 (삽입 정렬 - k 는 작다)
+        private int topK(RecommendationScorer scorer, int[] ords, ScoringContext ctx, long[] ids, double[] scores) {
+            int size = 0;
+            for (int ord : ords) {
+                double v = scorer.score(features, ord, ctx);
+                if (!Double.isFinite(v)) continue;
+                if (size == ids.length && v <= scores[size - 1]) continue;
+
+                int pos = (size < ids.length) ? size++ : size - 1;
+                while (pos > 0 && scores[pos - 1] < v) {
+                    ids[pos] = ids[pos - 1];
+                    scores[pos] = scores[pos - 1];
+                    pos--;
+                }
+                ids[pos] = features.clothingId(ord);
+                scores[pos] = v;
+            }
+            return size;
+        }
+
+        private boolean containsAny(long[] ids, int size, long[] clicked) {
+            for (int i = 0; i < size; i++) {
+                for (long c : clicked) {
+                    if (ids[i] == c) return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 사용자 1명의 클릭 (시간순 append, 적재 후에는 읽기 전용)
+     */
+    private static final class UserClicks {
+        long[] times = new long[4];
+        long[] clothingIds = new long[4];
+        int size;
+
+        void add(long at, long clothingId) {
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                clothingIds = Arrays.copyOf(clothingIds, size * 2);
+            }
+            times[size] = at;
+            clothingIds[size] = clothingId;
+            size++;
+        }
+
+        // [from, to] 구간 clothingId
+        long[] between(long from, long to) {
+            int lo = 0, hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (times[mid] < from) lo = mid + 1;
+                else hi = mid;
+            }
+            int end = lo;
+            while (end < size && times[end] <= to) end++;
+            return Arrays.copyOfRange(clothingIds, lo, end);
+        }
+    }
+}
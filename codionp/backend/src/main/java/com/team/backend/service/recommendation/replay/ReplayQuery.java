@@ -0,0 +1,29 @@
+// src/main/java/com/team/backend/service/recommendation/replay/ReplayQuery.java
+package com.team.backend.service.recommendation.replay;
+
+import com.team.backend.domain.enums.recommendation.RecommendationEventType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 오프라인 리플레이 조건
+ *
+ * @param from, to       KST 날짜 [from, to] (이벤트 created_at 기준)
+ * @param eventTypes     재생할 이벤트 타입 (비면 시스템 이벤트를 뺀 전체)
+ * @param scorers        RecommendationScorer 이름 (비면 fallback 점수기)
+ * @param k              비교할 Top-K
+ * @param poolSize       후보 풀 크기 (/today limit 과 같은 의미)
+ * @param clickWindowMin 이벤트 후 이 시간(분) 안의 클릭을 정답으로
+ * @param defaultRegion  payload 에 region 이 없을 때
+ */
+public record ReplayQuery(
+        LocalDate from,
+        LocalDate to,
+        List<RecommendationEventType> eventTypes,
+        List<String> scorers,
+        int k,
+        int poolSize,
+        int clickWindowMin,
+        String defaultRegion
+) {}
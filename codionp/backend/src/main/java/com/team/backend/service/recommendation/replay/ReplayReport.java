@@ -0,0 +1,37 @@
+// src/main/java/com/team/backend/service/recommendation/replay/ReplayReport.java
+package com.team.backend.service.recommendation.replay;
+
+import java.util.List;
+
+/**
+ * 오프라인 리플레이 결과
+ * - events: 읽은 이벤트 수, replayed: 날씨를 복원해 실제로 점수 계산한 수 (noWeather 는 제외)
+ * - withClicks: 클릭 윈도우 안에 실제 클릭이 있는 이벤트 수 (hit-rate 분모)
+ */
+public record ReplayReport(
+        long events,
+        long replayed,
+        long noWeather,
+        long withClicks,
+        long clicksLoaded,
+        long elapsedMs,
+        double eventsPerSec,
+        int threads,
+        List<ScorerResult> scorers
+) {
+
+    /**
+     * hitRate = Top-K 안에 윈도우 내 클릭 아이템이 하나라도 있는 비율 (withClicks 기준)
+     * latency = 이벤트 1건(후보 풀 점수 + Top-K) 처리 시간, 마이크로초
+     */
+    public record ScorerResult(
+            String scorer,
+            int k,
+            long hits,
+            double hitRate,
+            long p50Us,
+            long p90Us,
+            long p99Us,
+            long maxUs
+    ) {}
+}
@@ -0,0 +1,129 @@
+// src/main/java/com/team/backend/service/recommendation/scoring/LocalComfortScorer.java
+package com.team.backend.service.recommendation.scoring;
+
+import com.team.backend.domain.enums.ComfortZone;
+import com.team.backend.domain.enums.ThicknessLevel;
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.clothing.ItemFeatureStore;
+import org.springframework.stereotype.Component;
+
+/**
+ * 룰 기반 로컬 점수기 (AI 없이 마이크로초 단위)
+ * - 온도 적합도: 체감온도가 옷의 적정 온도 범위에서 얼마나 벗어났는지
+ * - 두께: ComfortZone 허용 두께인지, 구간 중심 두께와 얼마나 가까운지
+ * - 소재: 습하고 더우면 면(통기성), 비 올 확률 높으면 폴리(발수) 가산
+ * - 인기: log(1 + selectedCount)
+ * - CatalogItem / 컬럼형 저장소(ItemFeatureStore) 두 입력 모두 같은 원시값 계산으로 모은다
+ */
+@Component
+public class LocalComfortScorer implements RecommendationScorer {
+
+    public static final String NAME = "local-comfort";
+
+    private static final double W_TEMP = 0.50;
+    private static final double W_THICKNESS = 0.20;
+    private static final double W_MATERIAL = 0.15;
+    private static final double W_POPULARITY = 0.15;
+
+    // 적정 범위 밖으로 이만큼(도) 벗어나면 온도 점수 0
+    private static final double TEMP_FALLOFF = 10.0;
+    // 선택 수 1000회면 인기 점수 만점
+    private static final double POPULARITY_SATURATION = Math.log1p(1000);
+
+    private static final int HUMID = 70;
+    private static final int RAINY = 50;
+    private static final double HOT_FEELS_LIKE = 23.0;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public double score(CatalogItem item, ScoringContext ctx) {
+        return score(
+                temp(item.suitableMinTemp()), temp(item.suitableMaxTemp()),
+                item.thicknessLevel(),
+                percent(item.cottonPercentage()), percent(item.polyesterPercentage()),
+                item.selectedCount(), ctx
+        );
+    }
+
+    @Override
+    public double score(ItemFeatureStore f, int ord, ScoringContext ctx) {
+        return score(
+                f.minTemp(ord), f.maxTemp(ord),
+                f.thicknessLevel(ord),
+                f.cottonPercent(ord), f.polyesterPercent(ord),
+                f.selectedCount(ord), ctx
+        );
+    }
+
+    // 값 없음: 온도 NO_TEMP, 소재 NO_PERCENT
+    private static double score(int minTemp, int maxTemp, ThicknessLevel thickness,
+                                int cotton, int poly, int selectedCount, ScoringContext ctx) {
+        double s = W_TEMP * tempFit(minTemp, maxTemp, ctx.feelsLike())
+                + W_THICKNESS * thicknessFit(thickness, ctx.zone())
+                + W_MATERIAL * materialFit(cotton, poly, ctx)
+                + W_POPULARITY * popularity(selectedCount);
+        return Math.round(s * 100.0 * 100.0) / 100.0; // 0~100, 소수 2자리 (AI 응답과 동일 스케일)
+    }
+
+    static double tempFit(int min, int max, double feelsLike) {
+        boolean noMin = (min == ItemFeatureStore.NO_TEMP);
+        boolean noMax = (max == ItemFeatureStore.NO_TEMP);
+        if (noMin && noMax) return 0.5;
+
+        double d = 0.0;
+        if (!noMin && feelsLike < min) d = min - feelsLike;
+        else if (!noMax && feelsLike > max) d = feelsLike - max;
+        return Math.max(0.0, 1.0 - d / TEMP_FALLOFF);
+    }
+
+    static double thicknessFit(ThicknessLevel level, ComfortZone zone) {
+        if (level == null) return 0.0;
+        if (!zone.getAllowedThickness().contains(level)) return 0.0;
+
+        ThicknessLevel ideal = switch (zone) {
+            case VERY_COLD -> ThicknessLevel.THICK;
+            case COLD, MILD -> ThicknessLevel.NORMAL;
+            case WARM, HOT -> ThicknessLevel.THIN;
+        };
+        return (level == ideal) ? 1.0 : 0.6;
+    }
+
+    static double materialFit(int cotton, int poly, ScoringContext ctx) {
+        boolean noCotton = (cotton == ItemFeatureStore.NO_PERCENT);
+        boolean noPoly = (poly == ItemFeatureStore.NO_PERCENT);
+        if (noCotton && noPoly) return 0.5;
+
+        double c = (noCotton ? 0 : cotton) / 100.0;
+        double p = (noPoly ? 0 : poly) / 100.0;
+
+        boolean humidHot = ctx.humidity() >= HUMID && ctx.feelsLike() >= HOT_FEELS_LIKE;
+        boolean rainy = ctx.precipitationProbability() >= RAINY;
+
+        if (humidHot && rainy) return clamp01(0.5 * c + 0.5 * p + 0.25);
+        if (humidHot) return clamp01(0.5 + 0.5 * c - 0.3 * p);
+        if (rainy) return clamp01(0.5 + 0.5 * p - 0.2 * c);
+        return 0.5 + 0.25 * Math.min(1.0, c + p); // 소재 정보가 있는 옷을 살짝 우대
+    }
+
+    static double popularity(int selectedCount) {
+        if (selectedCount <= 0) return 0.0;
+        return Math.min(1.0, Math.log1p(selectedCount) / POPULARITY_SATURATION);
+    }
+
+    private static int temp(Integer v) {
+        return (v == null) ? ItemFeatureStore.NO_TEMP : v;
+    }
+
+    // ItemFeatureStore 와 같은 0~100 보정
+    private static int percent(Integer v) {
+        return (v == null) ? ItemFeatureStore.NO_PERCENT : Math.max(0, Math.min(100, v));
+    }
+
+    private static double clamp01(double v) {
+        return Math.max(0.0, Math.min(1.0, v));
+    }
+}
@@ -0,0 +1,27 @@
+// src/main/java/com/team/backend/service/recommendation/scoring/RecommendationScorer.java
+package com.team.backend.service.recommendation.scoring;
+
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.clothing.ItemFeatureStore;
+
+/**
+ * 인프로세스(JVM 내부) 추천 점수기
+ * - AI 실패/지연 시 fallback, 섀도 실험, 오프라인 리플레이 등에서 공통으로 사용
+ * - 구현체는 상태 없이(thread-safe) 마이크로초 단위로 동작해야 한다
+ * - 점수 스케일은 AI(/recommend)와 맞춰 0~100
+ */
+public interface RecommendationScorer {
+
+    /**
+     * 빈 선택/로그용 이름 (예: local-comfort)
+     */
+    String name();
+
+    double score(CatalogItem item, ScoringContext ctx);
+
+    /**
+     * 컬럼형 특징 저장소에서 바로 점수 계산 (요청 경로 - 아이템 객체를 만들지 않는다)
+     * - 같은 아이템이면 score(CatalogItem, ctx) 와 같은 값이어야 한다
+     */
+    double score(ItemFeatureStore features, int ordinal, ScoringContext ctx);
+}
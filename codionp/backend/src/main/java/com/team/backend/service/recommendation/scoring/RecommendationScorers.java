@@ -0,0 +1,52 @@
+// src/main/java/com/team/backend/service/recommendation/scoring/RecommendationScorers.java
+package com.team.backend.service.recommendation.scoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 등록된 RecommendationScorer 빈 레지스트리
+ * - codi.recommend.fallback-scorer 로 fallback 점수기를 교체 가능 (기본 local-comfort)
+ */
+@Slf4j
+@Component
+public class RecommendationScorers {
+
+    private final Map<String, RecommendationScorer> byName;
+    private final RecommendationScorer fallback;
+
+    public RecommendationScorers(
+            List<RecommendationScorer> scorers,
+            @Value("${codi.recommend.fallback-scorer:" + LocalComfortScorer.NAME + "}") String fallbackName
+    ) {
+        Map<String, RecommendationScorer> m = new LinkedHashMap<>();
+        for (RecommendationScorer s : scorers) {
+            if (m.putIfAbsent(s.name(), s) != null) {
+                throw new IllegalStateException("RecommendationScorer 이름 중복: " + s.name());
+            }
+        }
+        this.byName = Collections.unmodifiableMap(m);
+
+        RecommendationScorer f = m.get(fallbackName);
+        if (f == null) {
+            log.warn("[SCORER] fallback-scorer={} 없음 → {} 사용", fallbackName, LocalComfortScorer.NAME);
+            f = m.get(LocalComfortScorer.NAME);
+        }
+        this.fallback = f;
+    }
+
+    public RecommendationScorer fallback() {
+        return fallback;
+    }
+
+    public Optional<RecommendationScorer> find(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    public Set<String> names() {
+        return byName.keySet();
+    }
+}
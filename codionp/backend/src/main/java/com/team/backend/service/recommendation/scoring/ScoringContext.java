@@ -0,0 +1,30 @@
+// src/main/java/com/team/backend/service/recommendation/scoring/ScoringContext.java
+package com.team.backend.service.recommendation.scoring;
+
+import com.team.backend.domain.enums.ComfortZone;
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+
+/**
+ * 점수 계산용 날씨 컨텍스트 (요청당 1회 생성)
+ */
+public record ScoringContext(
+        double feelsLike,
+        int humidity,
+        int precipitationProbability,
+        ComfortZone zone
+) {
+
+    public static ScoringContext of(double feelsLike, int humidity, int precipitationProbability) {
+        return new ScoringContext(feelsLike, humidity, precipitationProbability, ComfortZone.from(feelsLike));
+    }
+
+    public static ScoringContext from(RecommendationAiDto.WeatherData w) {
+        if (w == null) return of(0.0, 0, 0);
+
+        double feelsLike = (w.feelsLikeTemperature != null) ? w.feelsLikeTemperature
+                : (w.temperature != null ? w.temperature : 0.0);
+        int humidity = (w.humidity == null) ? 0 : w.humidity;
+        int precipitation = (w.precipitationProbability == null) ? 0 : w.precipitationProbability;
+        return of(feelsLike, humidity, precipitation);
+    }
+}
@@ -0,0 +1,191 @@
+// src/main/java/com/team/backend/service/recommendation/shadow/ShadowScorerRunner.java
+package com.team.backend.service.recommendation.shadow;
+
+import com.team.backend.api.dto.recommendation.RecommendationEventLogRequestDto;
+import com.team.backend.domain.enums.recommendation.RecommendationEventType;
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import com.team.backend.service.clothing.ClothingCatalogSnapshot;
+import com.team.backend.service.clothing.ItemFeatureStore;
+import com.team.backend.service.recommendation.RecommendationEventLogService;
+import com.team.backend.service.recommendation.RecommendationRanker;
+import com.team.backend.service.recommendation.scoring.RecommendationScorer;
+import com.team.backend.service.recommendation.scoring.RecommendationScorers;
+import com.team.backend.service.recommendation.scoring.ScoringContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 섀도 점수기 실험 (운영 응답에는 영향 없음)
+ * - AI 정상 응답이 나간 요청 중 sample-rate 만큼만, 같은 후보/날씨로 섀도 점수기를 돌려 Top-K 를 비교
+ * - 요청 스레드는 샘플링 + 제출(recommendShadowExecutor)만 한다 → 점수 계산/로그 적재는 전부 섀도 풀에서
+ * - 부하 시 버림(shed): 풀 큐가 차서 거절되거나, 큐에서 max-queue-ms 넘게 기다린 작업은 실행하지 않는다
+ * - 비교 대상은 점수 순 Top-K (다양성/개인화 재정렬 전) → 점수기끼리의 순위 차이만 본다
+ * - 결과/실패는 SHADOW_COMPARE 이벤트 {type=SHADOW_COMPARE|SHADOW_EXCEPTION} (퍼널 집계와 분리), 지표: codion.shadow.{submitted,shed,completed}
+ */
+@Slf4j
+@Component
+public class ShadowScorerRunner {
+
+    private final RecommendationEventLogService recommendationEventLogService;
+    private final ClothingCatalogSnapshot catalogSnapshot;
+    private final Executor recommendShadowExecutor;
+
+    private final RecommendationScorer scorer; // null 이면 비활성
+    private final double sampleRate;
+    private final long maxQueueMs;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    public ShadowScorerRunner(
+            RecommendationEventLogService recommendationEventLogService,
+            ClothingCatalogSnapshot catalogSnapshot,
+            RecommendationScorers recommendationScorers,
+            Executor recommendShadowExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${codi.recommend.shadow.enabled:false}") boolean enabled,
+            @Value("${codi.recommend.shadow.scorer:}") String scorerName,
+            @Value("${codi.recommend.shadow.sample-rate:0.1}") double sampleRate,
+            @Value("${codi.recommend.shadow.max-queue-ms:1000}") long maxQueueMs
+    ) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("codi.recommend.shadow.sample-rate는 0~1 사이만 허용됩니다.");
+        }
+        this.recommendationEventLogService = recommendationEventLogService;
+        this.catalogSnapshot = catalogSnapshot;
+        this.recommendShadowExecutor = recommendShadowExecutor;
+        this.sampleRate = sampleRate;
+        this.maxQueueMs = maxQueueMs;
+
+        RecommendationScorer s = null;
+        if (enabled) {
+            s = recommendationScorers.find(scorerName).orElse(null);
+            if (s == null) {
+                log.warn("[SHADOW] scorer={} 없음 → 섀도 비활성 (등록: {})", scorerName, recommendationScorers.names());
+            }
+        }
+        this.scorer = s;
+
+        FunctionCounter.builder("codion.shadow.submitted", submitted, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("codion.shadow.shed", shed, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("codion.shadow.completed", completed, LongAdder::sum).register(meterRegistry);
+    }
+
+    /**
+     * 운영 응답과 섀도 점수기 비교 작업 제출 (절대 던지지 않고, 기다리지 않는다)
+     *
+     * @param served        운영 경로가 응답한 점수 desc 후보 (읽기만 한다)
+     * @param k             비교할 Top-K
+     * @param servedLatencyMs 운영 경로 지연
+     */
+    public void submit(
+            RecommendationAiDto.RecommendationRequest req,
+            List<RecommendationAiDto.Recommendation> served,
+            int k,
+            long servedLatencyMs
+    ) {
+        if (scorer == null || req == null || served == null || served.isEmpty()) return;
+        if (ThreadLocalRandom.current().nextDouble() >= sampleRate) return;
+
+        long enqueuedAt = System.currentTimeMillis();
+        try {
+            recommendShadowExecutor.execute(() -> run(req, served, k, servedLatencyMs, enqueuedAt));
+            submitted.increment();
+        } catch (RejectedExecutionException e) {
+            shed.increment();
+        }
+    }
+
+    private void run(
+            RecommendationAiDto.RecommendationRequest req,
+            List<RecommendationAiDto.Recommendation> served,
+            int k,
+            long servedLatencyMs,
+            long enqueuedAt
+    ) {
+        long queuedMs = System.currentTimeMillis() - enqueuedAt;
+        if (queuedMs > maxQueueMs) {
+            shed.increment();
+            return;
+        }
+
+        try {
+            long startedAt = System.nanoTime();
+            List<RecommendationAiDto.Recommendation> shadowTop = scoreTopK(req, k);
+            long shadowLatencyUs = (System.nanoTime() - startedAt) / 1_000L;
+
+            int n = Math.min(k, served.size());
+            Set<Long> servedIds = new HashSet<>(n * 2);
+            for (int i = 0; i < n; i++) servedIds.add(served.get(i).clothingId);
+
+            int hits = 0;
+            for (RecommendationAiDto.Recommendation r : shadowTop) {
+                if (servedIds.contains(r.clothingId)) hits++;
+            }
+            boolean top1Match = !shadowTop.isEmpty() && shadowTop.get(0).clothingId.equals(served.get(0).clothingId);
+
+            completed.increment();
+            logEvent(Map.of(
+                    "type", "SHADOW_COMPARE",
+                    "scorer", scorer.name(),
+                    "k", n,
+                    "overlap", (n == 0) ? 0.0 : (double) hits / n,
+                    "top1Match", top1Match,
+                    "servedLatencyMs", servedLatencyMs,
+                    "shadowLatencyUs", shadowLatencyUs,
+                    "queuedMs", queuedMs
+            ));
+        } catch (Exception e) {
+            log.debug("[SHADOW_FAIL] scorer={}, {}", scorer.name(), e.getMessage());
+            logEvent(Map.of(
+                    "type", "SHADOW_EXCEPTION",
+                    "scorer", scorer.name(),
+                    "errorType", e.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    // 운영 fallback 과 같은 방식: 스냅샷에 없는 id 는 score null → 뒤로
+    private List<RecommendationAiDto.Recommendation> scoreTopK(RecommendationAiDto.RecommendationRequest req, int k) {
+        ItemFeatureStore features = catalogSnapshot.features();
+        ScoringContext ctx = ScoringContext.from(req.weather);
+
+        List<RecommendationAiDto.Recommendation> scored = new ArrayList<>(req.items.size());
+        for (RecommendationAiDto.Item it : req.items) {
+            if (it == null || it.clothingId == null) continue;
+
+            RecommendationAiDto.Recommendation r = new RecommendationAiDto.Recommendation();
+            r.clothingId = it.clothingId;
+            int ord = features.ordinal(it.clothingId);
+            r.score = (ord < 0) ? null : scorer.score(features, ord, ctx);
+            scored.add(r);
+        }
+        return RecommendationRanker.topK(scored, k);
+    }
+
+    private void logEvent(Map<String, Object> payload) {
+        try {
+            recommendationEventLogService.write(
+                    RecommendationEventLogRequestDto.builder()
+                            .eventType(RecommendationEventType.SHADOW_COMPARE)
+                            .sessionKey("SYSTEM")
+                            .payload(payload)
+                            .build()
+            );
+        } catch (Exception ignore) {}
+    }
+}
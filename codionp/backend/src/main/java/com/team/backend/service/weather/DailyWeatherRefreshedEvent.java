@@ -0,0 +1,13 @@
+// src/main/java/com/team/backend/service/weather/DailyWeatherRefreshedEvent.java
+package com.team.backend.service.weather;
+
+import com.team.backend.api.dto.weather.DailyWeatherResponseDto;
+
+import java.util.List;
+
+/**
+ * getWeeklyWeather 가 daily_weather 를 upsert 한 뒤 발행 (커밋 이후 리스너에서 처리)
+ *
+ * @param days upsert 후 DB 기준 주간 예보 (날짜 오름차순)
+ */
+public record DailyWeatherRefreshedEvent(String region, List<DailyWeatherResponseDto> days) {}
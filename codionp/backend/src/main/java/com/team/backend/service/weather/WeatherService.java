@@ -13,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
@@ -33,9 +34,10 @@ public class WeatherService {
     private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
 
     private final Dotenv dotenv;
-    private final RestTemplate restTemplate;
+    private final RestTemplate weatherRestTemplate; // HttpClientConfig 의 OpenWeather 전용 풀
     private final DailyWeatherRepository dailyWeatherRepository;
     private final OpenWeatherDailyAggregator aggregator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${weather.api.url}")
     private String weatherApiUrl;
@@ -121,7 +123,11 @@ public class WeatherService {
         }
 
         upsertDailyWeathers(entities);
-        return getWeeklyWeatherFromDb(region);
+        WeeklyWeatherResponseDto weekly = getWeeklyWeatherFromDb(region);
+
+        // 새 예보 기준 사전 추천 계산 트리거 (커밋 이후 백그라운드)
+        eventPublisher.publishEvent(new DailyWeatherRefreshedEvent(region, weekly.getDays()));
+        return weekly;
     }
 
     // ==============================
@@ -160,7 +166,7 @@ public class WeatherService {
             log.info("🔎 Calling OpenWeather forecast API: {}", uri);
 
             OpenWeatherForecastDto response =
-                    restTemplate.getForObject(uri, OpenWeatherForecastDto.class);
+                    weatherRestTemplate.getForObject(uri, OpenWeatherForecastDto.class);
 
             long elapsed = System.currentTimeMillis() - start;
             log.info("✅ OpenWeather 응답 시간 = {} ms", elapsed);
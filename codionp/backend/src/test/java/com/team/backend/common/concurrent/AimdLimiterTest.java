@@ -0,0 +1,80 @@
+package com.team.backend.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    // 초기 10, 범위 2~12, backoff 0.5, 지연 임계 100ms
+    private final AimdLimiter limiter = new AimdLimiter(10, 2, 12, 0.5, 100);
+
+    @Test
+    void refusesAtLimitWithoutWaiting() {
+        for (int i = 0; i < 10; i++) assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.inFlight()).isEqualTo(10);
+
+        limiter.releaseIgnored();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void increasesOnlyAtHalfUtilisation() {
+        // 동시 1건 (1 * 2 < 10) → 상한 그대로
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        // 동시 5건 → 첫 반납 시점 5 * 2 >= 10 → +1
+        acquire(5);
+        limiter.release(FAST, false);
+        assertThat(limiter.limit()).isEqualTo(11);
+        releaseIgnored(4);
+    }
+
+    @Test
+    void increaseIsClampedAtMax() {
+        for (int round = 0; round < 5; round++) {
+            acquire(limiter.limit());
+            for (int i = limiter.inFlight(); i > 0; i--) limiter.release(FAST, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(12);
+    }
+
+    @Test
+    void backsOffOnDropAndSlowRttClampedAtMin() {
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(FAST, true);
+        assertThat(limiter.limit()).isEqualTo(5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(SLOW, false);
+        assertThat(limiter.limit()).isEqualTo(2);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.release(FAST, true);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void ignoredReleaseDoesNotAdjustLimit() {
+        acquire(8);
+        releaseIgnored(8);
+        assertThat(limiter.limit()).isEqualTo(10);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private void acquire(int n) {
+        for (int i = 0; i < n; i++) assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    private void releaseIgnored(int n) {
+        for (int i = 0; i < n; i++) limiter.releaseIgnored();
+    }
+}
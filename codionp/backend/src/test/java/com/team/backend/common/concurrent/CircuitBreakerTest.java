@@ -0,0 +1,117 @@
+package com.team.backend.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_MS = 50;
+
+    // window 10, 최소 4건, 실패율 50%, 시험 호출 2건
+    private final CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, OPEN_MS, 2);
+
+    @Test
+    void staysClosedUntilMinCallsThenOpensAtFailureRate() {
+        fail(3);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail(1); // 4건 중 4건 실패
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void staysClosedBelowFailureRate() {
+        succeed(3);
+        fail(1); // 25%
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail(1); // 2/5 = 40%
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail(1); // 3/6 = 50%
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void halfOpenAfterOpenMsAndClosesWhenAllTrialsSucceed() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_MS + 20);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        // 시험 슬롯은 2건까지만
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse(); // 진행 중 1 + 성공 1 = 상한
+
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void ignoredTrialReleasesItsSlot() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_MS + 20);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onIgnored();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedTrialReopens() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_MS + 20);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void forceOpenRejectsUntilReset() throws InterruptedException {
+        breaker.forceOpen();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.FORCED_OPEN);
+        Thread.sleep(OPEN_MS + 20);
+        assertThat(breaker.tryAcquire()).isFalse(); // openMs 와 무관
+
+        breaker.reset();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        // reset 은 윈도우도 비운다 → 다시 minCalls 부터
+        fail(3);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void open() {
+        fail(4);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void fail(int n) {
+        for (int i = 0; i < n; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+    }
+
+    private void succeed(int n) {
+        for (int i = 0; i < n; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.team.backend.service.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComfortAiClientTest {
+
+    private static final ComfortAiClient.Context CONTEXT = new ComfortAiClient.Context(12.0, 55.0, 2.0, 40.0);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final LocalComfortEvaluator local = new LocalComfortEvaluator(
+            new DefaultResourceLoader(), "local", "classpath:ai/weather_material_pmv.txt");
+
+    private final ComfortGridStore gridStore = new ComfortGridStore();
+
+    private final ComfortAiClient client = new ComfortAiClient(
+            null,
+            local,
+            new ComfortScoreCache(registry, true, 1000, 60),
+            gridStore,
+            new ComfortBatchCoalescer(registry, false, 0, 256),
+            null,
+            null,
+            null
+    );
+
+    @Test
+    void duplicateItemIdsWithDifferentRatiosGetTheirOwnScores() {
+        double expected20 = scoreOf(20);
+        double expected80 = scoreOf(80);
+        assertThat(expected20).isNotEqualTo(expected80);
+
+        // 같은 item_id 가 서로 다른 비율로 두 번 들어온 경우
+        ComfortAiClient.BatchResponse res = client.callBatch(new ComfortAiClient.BatchRequest(CONTEXT, List.of(
+                new ComfortAiClient.Item(7L, 20, 80),
+                new ComfortAiClient.Item(7L, 80, 20)
+        )));
+
+        assertThat(res.results).hasSize(2);
+        assertThat(res.results.get(0).itemId).isEqualTo(7L);
+        assertThat(res.results.get(0).comfortScore).isEqualTo(expected20);
+        assertThat(res.results.get(1).itemId).isEqualTo(7L);
+        assertThat(res.results.get(1).comfortScore).isEqualTo(expected80);
+
+        // 두 번째 호출은 캐시 hit - 잘못된 점수가 저장되지 않았어야 한다
+        ComfortAiClient.BatchResponse cached = client.callBatch(new ComfortAiClient.BatchRequest(CONTEXT, List.of(
+                new ComfortAiClient.Item(1L, 80, 20)
+        )));
+        assertThat(cached.results.get(0).comfortScore).isEqualTo(expected80);
+    }
+
+    @Test
+    void gridFirstLookupMapsMissesByPosition() {
+        LocalDate date = LocalDate.of(2026, 10, 18);
+        double[] scores = new double[ComfortGridStore.GRID_SIZE];
+        Arrays.fill(scores, Double.NaN);
+        scores[50] = 0.5;
+        gridStore.put("Seoul", date, LocalDateTime.of(2026, 10, 18, 5, 0), scores);
+
+        // 50 은 격자 hit, 같은 item_id 의 20/80 은 miss → 각자 자기 비율 점수
+        ComfortAiClient.BatchResponse res = client.callBatch("Seoul", date, new ComfortAiClient.BatchRequest(CONTEXT, List.of(
+                new ComfortAiClient.Item(7L, 20, 80),
+                new ComfortAiClient.Item(7L, 50, 50),
+                new ComfortAiClient.Item(7L, 80, 20)
+        )));
+
+        assertThat(res.results).hasSize(3);
+        assertThat(res.results.get(0).comfortScore).isEqualTo(scoreOf(20));
+        assertThat(res.results.get(1).comfortScore).isEqualTo(0.5);
+        assertThat(res.results.get(2).comfortScore).isEqualTo(scoreOf(80));
+    }
+
+    // 캐시를 거치지 않은 같은 컨텍스트(격자 스냅 후) 단건 점수
+    private double scoreOf(int cRatio) {
+        ComfortScoreCache grid = new ComfortScoreCache(registry, false, 1, 1);
+        return local.evaluate(new ComfortAiClient.BatchRequest(grid.quantize(CONTEXT), List.of(
+                new ComfortAiClient.Item(1L, cRatio, 100 - cRatio)
+        ))).results.get(0).comfortScore;
+    }
+}
@@ -0,0 +1,89 @@
+package com.team.backend.service.ai;
+
+import com.team.backend.config.AiUpstreamException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ComfortBatchCoalescerTest {
+
+    private static final ComfortAiClient.Context CONTEXT = new ComfortAiClient.Context(20.0, 50.0, 1.0, 10.0);
+
+    // 두 호출자가 같은 item_id(1) 를 서로 다른 비율로 보낸다
+    private static final ComfortAiClient.BatchRequest A = request(new ComfortAiClient.Item(1L, 10, 90));
+    private static final ComfortAiClient.BatchRequest B = request(new ComfortAiClient.Item(1L, 70, 30));
+
+    private final ComfortBatchCoalescer coalescer = new ComfortBatchCoalescer(new SimpleMeterRegistry(), true, 200, 2);
+
+    // 공용 풀 병렬도와 무관하게 두 호출자가 동시에 들어오도록
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void mergedResultsAreSplitByPositionEvenWhenItemIdsCollide() {
+        // 점수 = cRatio (순서대로)
+        Function<ComfortAiClient.BatchRequest, ComfortAiClient.BatchResponse> sender = merged -> {
+            assertThat(merged.items).hasSize(2);
+            List<ComfortAiClient.Result> results = new ArrayList<>();
+            for (ComfortAiClient.Item it : merged.items) {
+                ComfortAiClient.Result r = new ComfortAiClient.Result();
+                r.itemId = it.itemId;
+                r.comfortScore = it.cRatio.doubleValue();
+                results.add(r);
+            }
+            ComfortAiClient.BatchResponse res = new ComfortAiClient.BatchResponse();
+            res.results = results;
+            return res;
+        };
+
+        CompletableFuture<ComfortAiClient.BatchResponse> a = CompletableFuture.supplyAsync(() -> coalescer.submit(A, sender), callers);
+        CompletableFuture<ComfortAiClient.BatchResponse> b = CompletableFuture.supplyAsync(() -> coalescer.submit(B, sender), callers);
+
+        assertThat(a.join().results.get(0).comfortScore).isEqualTo(10.0);
+        assertThat(b.join().results.get(0).comfortScore).isEqualTo(70.0);
+        assertThat(b.join().results.get(0).itemId).isEqualTo(1L);
+    }
+
+    @Test
+    void resultCountMismatchFailsEveryCaller() {
+        // 2건 보냈는데 1건만 돌아온 경우 - item_id 로 맞추지 않는다
+        Function<ComfortAiClient.BatchRequest, ComfortAiClient.BatchResponse> sender = merged -> {
+            ComfortAiClient.Result r = new ComfortAiClient.Result();
+            r.itemId = 1L;
+            r.comfortScore = 99.0;
+            ComfortAiClient.BatchResponse res = new ComfortAiClient.BatchResponse();
+            res.results = List.of(r);
+            return res;
+        };
+
+        CompletableFuture<ComfortAiClient.BatchResponse> a = CompletableFuture.supplyAsync(() -> coalescer.submit(A, sender), callers);
+        CompletableFuture<ComfortAiClient.BatchResponse> b = CompletableFuture.supplyAsync(() -> coalescer.submit(B, sender), callers);
+
+        for (CompletableFuture<ComfortAiClient.BatchResponse> f : List.of(a, b)) {
+            assertThatThrownBy(f::join)
+                    .isInstanceOf(CompletionException.class)
+                    .cause()
+                    .isInstanceOf(AiUpstreamException.class)
+                    .hasMessageContaining("mismatch");
+        }
+    }
+
+    private static ComfortAiClient.BatchRequest request(ComfortAiClient.Item item) {
+        return new ComfortAiClient.BatchRequest(CONTEXT, List.of(item));
+    }
+}
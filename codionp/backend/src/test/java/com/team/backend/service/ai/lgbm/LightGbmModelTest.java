@@ -0,0 +1,303 @@
+package com.team.backend.service.ai.lgbm;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class LightGbmModelTest {
+
+    private static final String SHIPPED_MODEL = "/ai/weather_material_pmv.txt";
+    // export_lgbm_text.py 가 덤프와 같이 만드는 booster.predict 결과
+    private static final String SHIPPED_GOLDEN = "/ai/weather_material_pmv.golden.csv";
+    private static final double EPS = 1e-9;
+
+    // 분기 1개짜리 트리 2개: x <= 0.5 이면 (1, 5), 아니면 (3, 7)
+    private static final String TREES = """
+            Tree=0
+            num_leaves=2
+            num_cat=0
+            split_feature=0
+            split_gain=1
+            threshold=0.5
+            decision_type=2
+            left_child=-1
+            right_child=-2
+            leaf_value=1 3
+            leaf_count=10 10
+            internal_value=0
+            internal_count=20
+            is_linear=0
+            shrinkage=1
+
+            Tree=1
+            num_leaves=2
+            num_cat=0
+            split_feature=0
+            split_gain=1
+            threshold=0.5
+            decision_type=2
+            left_child=-1
+            right_child=-2
+            leaf_value=5 7
+            leaf_count=10 10
+            internal_value=0
+            internal_count=20
+            is_linear=0
+            shrinkage=1
+
+            end of trees
+            """;
+
+    @Test
+    void averageOutputFlagAveragesTrees() throws IOException {
+        LightGbmModel model = LightGbmModel.parse(new StringReader(header(true) + TREES));
+
+        assertThat(model.numTrees()).isEqualTo(2);
+        assertThat(model.predict(new double[]{0.0})).isEqualTo(3.0);
+        assertThat(model.predict(new double[]{1.0})).isEqualTo(5.0);
+
+        double[] out = new double[2];
+        model.predictBatch(new double[]{0.0, 1.0}, 2, out);
+        assertThat(out).containsExactly(3.0, 5.0);
+    }
+
+    @Test
+    void withoutAverageOutputSumsTrees() throws IOException {
+        LightGbmModel model = LightGbmModel.parse(new StringReader(header(false) + TREES));
+
+        assertThat(model.predict(new double[]{0.0})).isEqualTo(6.0);
+        assertThat(model.predict(new double[]{1.0})).isEqualTo(10.0);
+    }
+
+    @Test
+    void shippedModelLoads() throws IOException {
+        LightGbmModel model = loadShipped();
+
+        assertThat(model.numTrees()).isEqualTo(557);
+        assertThat(model.featureNames()).containsExactly(
+                "temp", "humidity", "precip_prob", "wind_speed", "temp_diff", "warmth", "breathability", "water_res");
+        assertThat(model.objective()).isEqualTo("regression");
+    }
+
+    /**
+     * 배열로 펼친 평가기 vs 덤프 텍스트를 트리별로 그대로 따라가는 평가 (파싱/인덱스 변환 오류 검출)
+     */
+    @Test
+    void shippedModelMatchesPlainTreeWalk() throws IOException {
+        LightGbmModel model = loadShipped();
+        List<WalkTree> trees = readTrees();
+        assertThat(trees).hasSize(model.numTrees());
+
+        int nf = model.numFeatures();
+        double[][] ranges = featureRanges();
+        Random rnd = new Random(7);
+
+        int n = 300;
+        double[] rows = new double[n * nf];
+        for (int i = 0; i < n; i++) {
+            for (int f = 0; f < nf; f++) {
+                double lo = ranges[f][0], hi = ranges[f][1];
+                double v = lo + rnd.nextDouble() * (hi - lo);
+                if (i == 0) v = lo;
+                if (i == 1) v = hi;
+                if (i == 2) v = 0.0;
+                if (i == 3 || (i < 20 && f == i % nf)) v = Double.NaN;
+                rows[i * nf + f] = v;
+            }
+        }
+
+        double[] batch = new double[n];
+        model.predictBatch(rows, n, batch);
+        for (int i = 0; i < n; i++) {
+            double[] x = Arrays.copyOfRange(rows, i * nf, (i + 1) * nf);
+            double expected = 0.0;
+            for (WalkTree t : trees) expected += t.eval(x);
+
+            assertThat(model.predict(x)).as("row %d", i).isCloseTo(expected, within(EPS));
+            assertThat(batch[i]).as("row %d", i).isCloseTo(expected, within(EPS));
+        }
+    }
+
+    /**
+     * LightGBM booster.predict 와 같은 값인지 (골든 파일은 export_lgbm_text.py 가 덤프와 같이 생성)
+     */
+    @Test
+    void shippedModelMatchesBoosterPredict() throws IOException {
+        InputStream in = LightGbmModelTest.class.getResourceAsStream(SHIPPED_GOLDEN);
+        assumeTrue(in != null, "골든 파일 없음: ai/material_weather/ml/pipeline/export_lgbm_text.py 로 덤프와 같이 생성");
+
+        LightGbmModel model = loadShipped();
+        int nf = model.numFeatures();
+        List<double[]> rows = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String[] head = br.readLine().split(",");
+            assertThat(List.of(head).subList(0, nf)).isEqualTo(model.featureNames());
+            for (String line; (line = br.readLine()) != null; ) {
+                if (line.isBlank()) continue;
+                String[] tok = line.split(",");
+                double[] r = new double[nf + 1];
+                for (int f = 0; f <= nf; f++) r[f] = "nan".equalsIgnoreCase(tok[f]) ? Double.NaN : Double.parseDouble(tok[f]);
+                rows.add(r);
+            }
+        }
+        assertThat(rows).isNotEmpty();
+
+        int n = rows.size();
+        double[] flat = new double[n * nf];
+        for (int i = 0; i < n; i++) System.arraycopy(rows.get(i), 0, flat, i * nf, nf);
+        double[] batch = new double[n];
+        model.predictBatch(flat, n, batch);
+
+        for (int i = 0; i < n; i++) {
+            double expected = rows.get(i)[nf];
+            assertThat(model.predict(Arrays.copyOf(rows.get(i), nf))).as("row %d", i).isCloseTo(expected, within(EPS));
+            assertThat(batch[i]).as("row %d", i).isCloseTo(expected, within(EPS));
+        }
+    }
+
+    private static LightGbmModel loadShipped() throws IOException {
+        try (Reader r = shippedReader()) {
+            return LightGbmModel.parse(r);
+        }
+    }
+
+    private static BufferedReader shippedReader() {
+        InputStream in = LightGbmModelTest.class.getResourceAsStream(SHIPPED_MODEL);
+        assertThat(in).as(SHIPPED_MODEL).isNotNull();
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    // feature_infos=[lo:hi] ... (결측 쪽 분기도 타도록 범위 밖으로 조금 넓힌다)
+    private static double[][] featureRanges() throws IOException {
+        try (BufferedReader br = shippedReader()) {
+            for (String line; (line = br.readLine()) != null; ) {
+                if (!line.startsWith("feature_infos=")) continue;
+                String[] infos = line.substring("feature_infos=".length()).trim().split(" ");
+                double[][] out = new double[infos.length][];
+                for (int f = 0; f < infos.length; f++) {
+                    String[] lohi = infos[f].substring(1, infos[f].length() - 1).split(":");
+                    double lo = Double.parseDouble(lohi[0]), hi = Double.parseDouble(lohi[1]);
+                    double pad = (hi - lo) * 0.05;
+                    out[f] = new double[]{lo - pad, hi + pad};
+                }
+                return out;
+            }
+        }
+        throw new IllegalStateException("feature_infos 없음");
+    }
+
+    // 덤프의 Tree= 블록을 필드 맵 그대로 읽는다 (LightGbmModel 파서와 별개)
+    private static List<WalkTree> readTrees() throws IOException {
+        List<WalkTree> out = new ArrayList<>();
+        Map<String, String> cur = null;
+        try (BufferedReader br = shippedReader()) {
+            for (String line; (line = br.readLine()) != null; ) {
+                if (line.startsWith("end of trees")) break;
+                if (line.startsWith("Tree=")) {
+                    if (cur != null) out.add(new WalkTree(cur));
+                    cur = new HashMap<>();
+                    continue;
+                }
+                int eq = line.indexOf('=');
+                if (cur != null && eq > 0) cur.put(line.substring(0, eq), line.substring(eq + 1));
+            }
+        }
+        if (cur != null) out.add(new WalkTree(cur));
+        return out;
+    }
+
+    /**
+     * LightGBM Tree::NumericalDecision 을 노드별로 그대로 따라가는 평가
+     */
+    private static final class WalkTree {
+        final int[] feature;
+        final double[] threshold;
+        final int[] decisionType;
+        final int[] left;
+        final int[] right;
+        final double[] leaf;
+
+        WalkTree(Map<String, String> t) {
+            int leaves = Integer.parseInt(t.get("num_leaves").trim());
+            leaf = doubles(t.get("leaf_value"));
+            if (leaves == 1) {
+                feature = new int[0];
+                threshold = new double[0];
+                decisionType = new int[0];
+                left = new int[0];
+                right = new int[0];
+                return;
+            }
+            feature = ints(t.get("split_feature"));
+            threshold = doubles(t.get("threshold"));
+            decisionType = ints(t.get("decision_type"));
+            left = ints(t.get("left_child"));
+            right = ints(t.get("right_child"));
+        }
+
+        double eval(double[] x) {
+            if (feature.length == 0) return leaf[0];
+            int node = 0;
+            while (node >= 0) {
+                double v = x[feature[node]];
+                int missingType = (decisionType[node] >> 2) & 3;
+                boolean defaultLeft = (decisionType[node] & 2) != 0;
+                if (Double.isNaN(v) && missingType != 2) v = 0.0;
+
+                boolean goLeft;
+                if ((missingType == 1 && Math.abs(v) <= 1e-35) || (missingType == 2 && Double.isNaN(v))) {
+                    goLeft = defaultLeft;
+                } else {
+                    goLeft = v <= threshold[node];
+                }
+                node = goLeft ? left[node] : right[node];
+            }
+            return leaf[~node];
+        }
+
+        private static int[] ints(String v) {
+            String[] tok = v.trim().split(" ");
+            int[] out = new int[tok.length];
+            for (int i = 0; i < tok.length; i++) out[i] = Integer.parseInt(tok[i]);
+            return out;
+        }
+
+        private static double[] doubles(String v) {
+            String[] tok = v.trim().split(" ");
+            double[] out = new double[tok.length];
+            for (int i = 0; i < tok.length; i++) out[i] = Double.parseDouble(tok[i]);
+            return out;
+        }
+    }
+
+    private static String header(boolean averageOutput) {
+        return "tree\n"
+                + "version=v4\n"
+                + "num_class=1\n"
+                + "num_tree_per_iteration=1\n"
+                + "label_index=0\n"
+                + "max_feature_idx=0\n"
+                + "objective=regression\n"
+                + (averageOutput ? "average_output\n" : "")
+                + "feature_names=x\n"
+                + "feature_infos=[0:1]\n"
+                + "tree_sizes=300 300\n"
+                + "\n";
+    }
+}
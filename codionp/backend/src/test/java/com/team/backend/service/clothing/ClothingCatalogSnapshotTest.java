@@ -0,0 +1,40 @@
+package com.team.backend.service.clothing;
+
+import com.team.backend.repository.clothing.ClothingItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ClothingCatalogSnapshotTest {
+
+    private final ClothingItemRepository repository = mock(ClothingItemRepository.class);
+    private final List<Runnable> submitted = new ArrayList<>();
+    private final ClothingCatalogSnapshot snapshot = new ClothingCatalogSnapshot(repository, submitted::add);
+
+    @Test
+    void expiredSnapshotIsServedWhileOneBackgroundRefreshRuns() {
+        when(repository.findAllSeasonPairs()).thenReturn(List.of());
+        when(repository.findAll()).thenReturn(List.of());
+        ReflectionTestUtils.setField(snapshot, "catalogTtlSec", -1L); // 적재 직후부터 만료
+
+        // 첫 적재만 호출 스레드에서
+        ItemFeatureStore first = snapshot.features();
+        verify(repository, times(1)).findAll();
+
+        // 만료 후: 이전 스냅샷을 바로 돌려주고, 재적재는 한 건만 예약
+        assertThat(snapshot.features()).isSameAs(first);
+        assertThat(snapshot.features()).isSameAs(first);
+        verify(repository, times(1)).findAll();
+        assertThat(submitted).hasSize(1);
+
+        submitted.get(0).run();
+        verify(repository, times(2)).findAll();
+        assertThat(snapshot.features()).isNotSameAs(first);
+        assertThat(submitted).hasSize(2); // 재적재가 끝난 뒤에야 다음 예약
+    }
+}
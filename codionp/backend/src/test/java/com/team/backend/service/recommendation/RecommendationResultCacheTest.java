@@ -0,0 +1,51 @@
+package com.team.backend.service.recommendation;
+
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationResultCacheTest {
+
+    private static final RecommendationCacheKey KEY =
+            new RecommendationCacheKey("seoul", LocalDate.of(2025, 12, 1), 10, 5, 0, "ALL", 42L);
+
+    private final RecommendationResultCache cache = new RecommendationResultCache(new SimpleMeterRegistry(), 100, 180);
+
+    @Test
+    void fetchedAtOlderThanMaxAgeIsStillCached() {
+        // 오늘 예보 row 는 보통 max-age(180분)보다 오래 전에 수집된 것
+        LocalDateTime fetchedAt = LocalDateTime.now().minusHours(10);
+
+        cache.put(KEY, fetchedAt, success());
+
+        RecommendationAiDto.RecommendationResponse hit = cache.get(KEY, fetchedAt);
+        assertThat(hit).isNotNull();
+        assertThat(hit.recommendations).hasSize(1);
+    }
+
+    @Test
+    void differentFetchedAtInvalidates() {
+        LocalDateTime fetchedAt = LocalDateTime.now().minusHours(10);
+        cache.put(KEY, fetchedAt, success());
+
+        assertThat(cache.get(KEY, fetchedAt.plusHours(3))).isNull();
+        assertThat(cache.get(KEY, fetchedAt)).isNull();
+    }
+
+    private static RecommendationAiDto.RecommendationResponse success() {
+        RecommendationAiDto.Recommendation r = new RecommendationAiDto.Recommendation();
+        r.clothingId = 1L;
+        r.score = 0.9;
+
+        RecommendationAiDto.RecommendationResponse res = new RecommendationAiDto.RecommendationResponse();
+        res.status = "success";
+        res.recommendations = List.of(r);
+        return res;
+    }
+}
@@ -0,0 +1,82 @@
+package com.team.backend.service.recommendation.affinity;
+
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.domain.enums.ThicknessLevel;
+import com.team.backend.domain.enums.UsageType;
+import com.team.backend.repository.log.ItemClickLogJdbcRepository;
+import com.team.backend.service.clothing.CatalogItem;
+import com.team.backend.service.clothing.ClothingCatalogSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserAffinityStoreTest {
+
+    private static final long USER_ID = 1L;
+    private static final long ITEM_PK = 10L;
+    private static final long IDLE_MS = Duration.ofDays(1).toMillis();
+
+    private final ClothingCatalogSnapshot catalogSnapshot = mock(ClothingCatalogSnapshot.class);
+    private final ItemClickLogJdbcRepository repository = mock(ItemClickLogJdbcRepository.class);
+
+    private final UserAffinityStore store = new UserAffinityStore(
+            catalogSnapshot, repository, new SimpleMeterRegistry(), true, 100, 14, 1, 30);
+
+    UserAffinityStoreTest() {
+        CatalogItem item = new CatalogItem(ITEM_PK, 100L, "shirt", ClothingCategory.values()[0],
+                ThicknessLevel.values()[0], UsageType.values()[0], 10, 20, 50, 50, 0,
+                "black", "casual", null, 0, (byte) 0);
+        when(catalogSnapshot.findById(ITEM_PK)).thenReturn(Optional.of(item));
+    }
+
+    @Test
+    void liveClickAlsoReadByRebuildCursorIsAppliedOnce() {
+        long clickedAt = System.currentTimeMillis();
+        // 기동 직후(재구성 전) 커밋된 실시간 클릭 → 커서에도 같은 행이 보인다
+        store.onClick(USER_ID, ITEM_PK, clickedAt);
+        streamOnRebuild(clickedAt);
+
+        store.rebuild();
+
+        assertThat(store.find(USER_ID).mass(clickedAt, store.halfLifeMs())).isEqualTo(1.0);
+    }
+
+    @Test
+    void liveClickMissedByCursorIsAppliedAfterRebuild() {
+        long clickedAt = System.currentTimeMillis();
+        store.onClick(USER_ID, ITEM_PK, clickedAt);
+        streamOnRebuild();
+
+        store.rebuild();
+
+        assertThat(store.find(USER_ID).mass(clickedAt, store.halfLifeMs())).isEqualTo(1.0);
+    }
+
+    @Test
+    void olderClickDoesNotShortenExpiry() throws InterruptedException {
+        streamOnRebuild();
+        store.rebuild();
+
+        long now = System.currentTimeMillis();
+        store.onClick(USER_ID, ITEM_PK, now);
+        // 만료 직전의 과거 클릭이 나중에 반영돼도 최근 클릭 기준 만료를 유지
+        store.onClick(USER_ID, ITEM_PK, now - IDLE_MS + 50);
+        Thread.sleep(100);
+
+        assertThat(store.find(USER_ID)).isNotNull();
+    }
+
+    private void streamOnRebuild(long... clickedAtMs) {
+        doAnswer(inv -> {
+            ItemClickLogJdbcRepository.UserClickHandler h = inv.getArgument(2);
+            for (long t : clickedAtMs) h.accept(USER_ID, ITEM_PK, t);
+            return null;
+        }).when(repository).streamUserClicksSince(any(), anyInt(), any());
+    }
+}
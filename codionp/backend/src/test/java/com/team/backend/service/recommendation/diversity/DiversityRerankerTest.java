@@ -0,0 +1,54 @@
+package com.team.backend.service.recommendation.diversity;
+
+import com.team.backend.service.ai.dto.RecommendationAiDto;
+import com.team.backend.service.clothing.ClothingCatalogSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DiversityRerankerTest {
+
+    private final ClothingCatalogSnapshot catalogSnapshot = mock(ClothingCatalogSnapshot.class);
+
+    @Test
+    void nonPositiveKReturnsEmpty() {
+        DiversityReranker reranker = new DiversityReranker(catalogSnapshot, true, 0.7, 20);
+        List<RecommendationAiDto.Recommendation> ranked = ranked(5);
+
+        assertThat(reranker.rerank(ranked, 0)).isEmpty();
+        assertThat(reranker.rerank(ranked, -1)).isEmpty();
+        assertThat(reranker.rerank(null, 3)).isEmpty();
+    }
+
+    @Test
+    void fewerCandidatesThanKPassThrough() {
+        DiversityReranker reranker = new DiversityReranker(catalogSnapshot, true, 0.7, 20);
+        List<RecommendationAiDto.Recommendation> ranked = ranked(3);
+
+        assertThat(reranker.rerank(ranked, 3)).isSameAs(ranked);
+        assertThat(reranker.rerank(ranked, 5)).isSameAs(ranked);
+    }
+
+    @Test
+    void disabledKeepsScoreOrderPrefix() {
+        DiversityReranker reranker = new DiversityReranker(catalogSnapshot, false, 0.7, 20);
+        List<RecommendationAiDto.Recommendation> ranked = ranked(5);
+
+        assertThat(reranker.rerank(ranked, 2)).containsExactly(ranked.get(0), ranked.get(1));
+    }
+
+    private static List<RecommendationAiDto.Recommendation> ranked(int n) {
+        List<RecommendationAiDto.Recommendation> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            RecommendationAiDto.Recommendation r = new RecommendationAiDto.Recommendation();
+            r.clothingId = (long) i;
+            r.score = 100.0 - i;
+            out.add(r);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,139 @@
+package com.team.backend.service.recommendation.outfit;
+
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.domain.enums.ThicknessLevel;
+import com.team.backend.domain.enums.UsageType;
+import com.team.backend.service.clothing.CatalogItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class OutfitComposerTest {
+
+    private static final String[] COLORS = {"black", "red", "blue", "navy", null};
+    private static final String[] STYLES = {"casual", "formal", null};
+    // 동점이 자주 나오도록 점수는 몇 개 값에서만 고른다
+    private static final int[] SCORES = {20, 50, 50, 70, 90};
+
+    private final OutfitComposer composer = new OutfitComposer();
+
+    @Test
+    void topKMatchesExhaustiveEnumerationOnRandomInputs() {
+        Random rnd = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            Map<ClothingCategory, List<ScoredItem>> candidates = randomCandidates(rnd);
+            List<Double> all = exhaustiveScores(candidates);
+            int k = 1 + rnd.nextInt(all.size() + 5); // 조합 수보다 큰 k 포함
+
+            List<Outfit> got = composer.compose(candidates, k);
+
+            List<Double> expected = all.subList(0, Math.min(k, all.size()));
+            assertThat(got).as("round %d, k=%d", round, k).hasSize(expected.size());
+
+            Set<List<ScoredItem>> seen = new HashSet<>();
+            for (int i = 0; i < got.size(); i++) {
+                Outfit o = got.get(i);
+                assertThat(seen.add(o.items())).as("round %d: 중복 조합", round).isTrue();
+                // 반환 점수 = 실제 조합 점수, 순위별 점수 = 전수 열거 순위별 점수 (동점 조합은 어느 쪽이든 허용)
+                assertThat(o.score()).as("round %d", round).isCloseTo(round2(scoreOf(o.items())), within(1e-9));
+                assertThat(o.score()).as("round %d, rank %d", round, i).isCloseTo(round2(expected.get(i)), within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    void noTemplateWithoutRequiredSlots() {
+        Map<ClothingCategory, List<ScoredItem>> candidates = new EnumMap<>(ClothingCategory.class);
+        candidates.put(ClothingCategory.TOP, List.of(scored(1, ClothingCategory.TOP, 80, "black", null)));
+        candidates.put(ClothingCategory.OUTER, List.of(scored(2, ClothingCategory.OUTER, 80, "black", null)));
+
+        assertThat(composer.compose(candidates, 5)).isEmpty();
+        assertThat(composer.compose(Map.of(), 5)).isEmpty();
+        assertThat(composer.compose(candidates, 0)).isEmpty();
+    }
+
+    private static Map<ClothingCategory, List<ScoredItem>> randomCandidates(Random rnd) {
+        Map<ClothingCategory, List<ScoredItem>> out = new EnumMap<>(ClothingCategory.class);
+        long id = 1;
+        for (ClothingCategory c : ClothingCategory.values()) {
+            int n = rnd.nextInt(5); // 0 = 빈 카테고리
+            List<ScoredItem> list = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                list.add(scored(id++, c, SCORES[rnd.nextInt(SCORES.length)],
+                        COLORS[rnd.nextInt(COLORS.length)], STYLES[rnd.nextInt(STYLES.length)]));
+            }
+            if (n > 0 || rnd.nextBoolean()) out.put(c, list);
+        }
+        return out;
+    }
+
+    // 가능한 모든 조합 점수 desc
+    private static List<Double> exhaustiveScores(Map<ClothingCategory, List<ScoredItem>> candidates) {
+        List<Double> scores = new ArrayList<>();
+        List<ScoredItem> outers = withNone(candidates.get(ClothingCategory.OUTER));
+        List<ScoredItem> accessories = withNone(candidates.get(ClothingCategory.ACCESSORY));
+
+        for (ScoredItem top : nz(candidates.get(ClothingCategory.TOP))) {
+            for (ScoredItem bottom : nz(candidates.get(ClothingCategory.BOTTOM))) {
+                for (ScoredItem outer : outers) {
+                    for (ScoredItem acc : accessories) scores.add(scoreOf(outfit(top, bottom, outer, acc)));
+                }
+            }
+        }
+        for (ScoredItem onePiece : nz(candidates.get(ClothingCategory.ONE_PIECE))) {
+            for (ScoredItem outer : outers) {
+                for (ScoredItem acc : accessories) scores.add(scoreOf(outfit(onePiece, outer, acc)));
+            }
+        }
+        scores.sort(Comparator.reverseOrder());
+        return scores;
+    }
+
+    private static double scoreOf(List<ScoredItem> items) {
+        double s = 0.0;
+        for (ScoredItem it : items) {
+            s += switch (it.item().category()) {
+                case TOP -> OutfitComposer.W_TOP * it.score();
+                case BOTTOM -> OutfitComposer.W_BOTTOM * it.score();
+                case ONE_PIECE -> OutfitComposer.W_ONE_PIECE * it.score();
+                case OUTER -> OutfitComposer.W_OUTER * (it.score() - OutfitComposer.OPTIONAL_BASELINE);
+                case ACCESSORY -> OutfitComposer.W_ACCESSORY * (it.score() - OutfitComposer.OPTIONAL_BASELINE);
+            };
+        }
+        for (int i = 0; i < items.size(); i++) {
+            for (int j = i + 1; j < items.size(); j++) {
+                s += OutfitComposer.pairBonus(items.get(i).item(), items.get(j).item());
+            }
+        }
+        return s;
+    }
+
+    private static List<ScoredItem> outfit(ScoredItem... items) {
+        List<ScoredItem> out = new ArrayList<>();
+        for (ScoredItem it : items) if (it != null) out.add(it);
+        return out;
+    }
+
+    private static List<ScoredItem> withNone(List<ScoredItem> list) {
+        List<ScoredItem> out = new ArrayList<>(nz(list));
+        out.add(null);
+        return out;
+    }
+
+    private static List<ScoredItem> nz(List<ScoredItem> list) {
+        return (list == null) ? List.of() : list;
+    }
+
+    private static double round2(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+
+    private static ScoredItem scored(long id, ClothingCategory category, double score, String color, String style) {
+        CatalogItem item = new CatalogItem(id, id, "item-" + id, category, ThicknessLevel.values()[0],
+                UsageType.values()[0], null, null, null, null, null, color, style, null, 0, (byte) 0);
+        return new ScoredItem(item, score);
+    }
+}